@@ -0,0 +1,56 @@
+package br.com.helpdesk.apigateway.config;
+
+import br.com.helpdesk.apigateway.ratelimit.InMemoryTokenBucketStore;
+import br.com.helpdesk.apigateway.ratelimit.RateLimitFilter;
+import br.com.helpdesk.apigateway.ratelimit.RateLimitProperties;
+import br.com.helpdesk.apigateway.ratelimit.RedisTokenBucketStore;
+import br.com.helpdesk.apigateway.ratelimit.TokenBucket;
+import br.com.helpdesk.apigateway.ratelimit.TokenBucketStore;
+import br.com.helpdesk.apigateway.web.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+
+@Log4j2
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(value = "gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final Duration MIN_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    @Bean
+    public TokenBucketStore tokenBucketStore(
+            final RateLimitProperties properties,
+            final ObjectProvider<ReactiveStringRedisTemplate> redisTemplate) {
+        // Um balde parado por mais tempo que a reposição completa já estaria cheio, então pode ser descartado
+        final var idleTimeout = properties.getRules().stream()
+                .map(rule -> Duration.ofMillis(TokenBucket.of(rule).fullRefillMillis()))
+                .reduce(MIN_IDLE_TIMEOUT, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+        final var local = new InMemoryTokenBucketStore(properties.getMaxBuckets(), idleTimeout);
+
+        if (properties.getBackend() == RateLimitProperties.Backend.REDIS) {
+            log.info("Rate limit com baldes no Redis");
+            return new RedisTokenBucketStore(redisTemplate.getObject(), local);
+        }
+        log.info("Rate limit com baldes em memória");
+        return local;
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            final RateLimitProperties properties,
+            final TokenBucketStore tokenBucketStore,
+            final ErrorResponseWriter errorWriter,
+            final MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, tokenBucketStore, errorWriter, meterRegistry);
+    }
+
+}
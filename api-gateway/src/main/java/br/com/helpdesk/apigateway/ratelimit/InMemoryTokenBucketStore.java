@@ -0,0 +1,52 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// Baldes locais a cada instância: com N réplicas o limite efetivo por chave é N vezes o configurado
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private final Cache<String, State> buckets;
+
+    public InMemoryTokenBucketStore(final long maxBuckets, final Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(final String key, final TokenBucket bucket) {
+        final var state = buckets.get(key, k -> new State(bucket.capacity(), System.nanoTime()));
+        return Mono.just(state.tryConsume(bucket));
+    }
+
+    private static final class State {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private State(final double tokens, final long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+
+        private synchronized RateLimitDecision tryConsume(final TokenBucket bucket) {
+            final var now = System.nanoTime();
+            final var elapsedMillis = (now - lastRefillNanos) / 1_000_000d;
+            tokens = Math.min(bucket.capacity(), tokens + elapsedMillis * bucket.refillPerMillis());
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new RateLimitDecision(true, (long) tokens, 0);
+            }
+            return new RateLimitDecision(false, 0, (long) Math.ceil((1 - tokens) / bucket.refillPerMillis()));
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long remaining,
+        long retryAfterMillis
+) {
+}
@@ -0,0 +1,141 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import br.com.helpdesk.apigateway.security.JwtAuthenticationFilter;
+import br.com.helpdesk.apigateway.security.VerifiedToken;
+import br.com.helpdesk.apigateway.web.ErrorResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Token bucket por regra e por cliente. Roda depois do JwtAuthenticationFilter para poder usar o usuário verificado
+// como chave; requisições anônimas (login, refresh) são limitadas pelo IP de origem
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = JwtAuthenticationFilter.ORDER + 10;
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final TokenBucketStore store;
+    private final ErrorResponseWriter errorWriter;
+    private final RemoteAddressResolver remoteAddressResolver;
+    private final List<CompiledRule> rules;
+
+    public RateLimitFilter(
+            final RateLimitProperties properties,
+            final TokenBucketStore store,
+            final ErrorResponseWriter errorWriter,
+            final MeterRegistry meterRegistry) {
+        this.store = store;
+        this.errorWriter = errorWriter;
+        this.remoteAddressResolver = properties.isTrustForwardedFor()
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(1)
+                : new RemoteAddressResolver() {
+                };
+        this.rules = properties.getRules().stream().map(rule -> new CompiledRule(rule, meterRegistry)).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+        final var rule = findRule(exchange);
+        if (isNull(rule)) return chain.filter(exchange);
+
+        return store.tryConsume(key(rule, exchange), rule.bucket)
+                .flatMap(decision -> {
+                    final var headers = exchange.getResponse().getHeaders();
+                    headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+                    if (decision.allowed()) {
+                        rule.allowed.increment();
+                        return chain.filter(exchange);
+                    }
+
+                    rule.rejected.increment();
+                    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1000)));
+                    return errorWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS, "Too many requests");
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private CompiledRule findRule(final ServerWebExchange exchange) {
+        final var request = exchange.getRequest();
+        final var path = request.getPath().pathWithinApplication();
+        for (final var rule : rules) {
+            if (rule.matches(request.getMethod(), path)) return rule;
+        }
+        return null;
+    }
+
+    private String key(final CompiledRule rule, final ServerWebExchange exchange) {
+        if (rule.keyBy == RateLimitProperties.KeyType.USER
+                && exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken token) {
+            return rule.name + ":user:" + (nonNull(token.id()) ? token.id() : token.username());
+        }
+
+        final var address = remoteAddressResolver.resolve(exchange);
+        final var ip = nonNull(address) && nonNull(address.getAddress())
+                ? address.getAddress().getHostAddress()
+                : "unknown";
+        return rule.name + ":ip:" + ip;
+    }
+
+    private static final class CompiledRule {
+
+        private final String name;
+        private final List<PathPattern> paths;
+        private final Set<HttpMethod> methods;
+        private final RateLimitProperties.KeyType keyBy;
+        private final TokenBucket bucket;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private CompiledRule(final RateLimitProperties.Rule rule, final MeterRegistry meterRegistry) {
+            this.name = rule.getName();
+            this.paths = rule.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.methods = rule.getMethods().stream().map(HttpMethod::valueOf).collect(Collectors.toSet());
+            this.keyBy = rule.getKeyBy();
+            this.bucket = TokenBucket.of(rule);
+            this.allowed = counter(meterRegistry, name, "allowed");
+            this.rejected = counter(meterRegistry, name, "rejected");
+        }
+
+        private boolean matches(final HttpMethod method, final PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) return false;
+            for (final var pattern : paths) {
+                if (pattern.matches(path)) return true;
+            }
+            return false;
+        }
+
+        private static Counter counter(final MeterRegistry meterRegistry, final String rule, final String result) {
+            return Counter.builder("gateway.rate-limit.requests")
+                    .description("Requisições avaliadas pelo rate limit por regra e resultado")
+                    .tag("rule", rule)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+    }
+
+}
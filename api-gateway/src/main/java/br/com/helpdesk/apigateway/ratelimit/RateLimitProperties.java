@@ -0,0 +1,43 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Regras avaliadas na ordem em que aparecem: a primeira que casar com o método e o caminho é aplicada
+@Data
+@ConfigurationProperties("gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Backend backend = Backend.MEMORY;
+    private boolean trustForwardedFor = false;
+    private long maxBuckets = 100_000;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private KeyType keyBy = KeyType.USER;
+        private long capacity = 20;
+        private long refillTokens = 10;
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+    }
+
+    public enum Backend {
+        MEMORY, REDIS
+    }
+
+    // USER usa o usuário do JWT verificado e cai para o IP em requisições anônimas
+    public enum KeyType {
+        USER, IP
+    }
+
+}
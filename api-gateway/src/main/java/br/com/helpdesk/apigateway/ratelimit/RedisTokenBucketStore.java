@@ -0,0 +1,71 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Baldes compartilhados entre as réplicas do gateway. O script lê, repõe e consome de forma atômica usando o relógio
+// do próprio Redis; se o Redis falhar, a decisão cai para os baldes locais em vez de bloquear o tráfego
+@Log4j2
+public class RedisTokenBucketStore implements TokenBucketStore {
+
+    private static final String KEY_PREFIX = "gateway:rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCRIPT = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return { allowed, math.floor(tokens), retry }
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenBucketStore fallback;
+
+    public RedisTokenBucketStore(final ReactiveStringRedisTemplate redisTemplate, final TokenBucketStore fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(final String key, final TokenBucket bucket) {
+        return redisTemplate.execute(SCRIPT, List.of(KEY_PREFIX + key), List.of(
+                        String.valueOf(bucket.capacity()),
+                        String.valueOf(bucket.refillPerMillis()),
+                        String.valueOf(bucket.fullRefillMillis())))
+                .next()
+                .map(RedisTokenBucketStore::toDecision)
+                .onErrorResume(e -> {
+                    log.warn("Erro ao consultar o rate limit no Redis, usando baldes locais: {}", e.getMessage());
+                    return fallback.tryConsume(key, bucket);
+                });
+    }
+
+    private static RateLimitDecision toDecision(final List<?> result) {
+        return new RateLimitDecision(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue()
+        );
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+// Parâmetros já resolvidos de uma regra: a taxa de reposição fica em tokens por milissegundo
+public record TokenBucket(
+        long capacity,
+        double refillPerMillis
+) {
+
+    public static TokenBucket of(final RateLimitProperties.Rule rule) {
+        if (rule.getCapacity() <= 0 || rule.getRefillTokens() <= 0 || rule.getRefillPeriod().toMillis() <= 0) {
+            throw new IllegalArgumentException("Invalid rate limit rule: " + rule.getName());
+        }
+        return new TokenBucket(rule.getCapacity(), (double) rule.getRefillTokens() / rule.getRefillPeriod().toMillis());
+    }
+
+    // Tempo para um balde vazio voltar a ficar cheio; depois disso o estado guardado pode ser descartado
+    public long fullRefillMillis() {
+        return (long) Math.ceil(capacity / refillPerMillis);
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+public interface TokenBucketStore {
+
+    Mono<RateLimitDecision> tryConsume(String key, TokenBucket bucket);
+
+}
@@ -0,0 +1,9 @@
+package br.com.helpdesk.apigateway.security;
+
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,124 @@
+package br.com.helpdesk.apigateway.security;
+
+import br.com.helpdesk.apigateway.web.ErrorResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Valida o JWT na borda: tokens inválidos recebem 401 aqui mesmo, sem consumir threads do BFF, e as requisições
+// autenticadas seguem com a identidade verificada nos cabeçalhos X-User-*
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_EMAIL_HEADER = "X-User-Email";
+    public static final String USER_NAME_HEADER = "X-User-Name";
+    public static final String USER_ROLES_HEADER = "X-User-Roles";
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".verifiedToken";
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtVerifier verifier;
+    private final ErrorResponseWriter errorWriter;
+    private final Boolean enabled;
+    private final List<PathPattern> publicPaths;
+    private final Counter accepted;
+    private final Counter rejected;
+
+    public JwtAuthenticationFilter(
+            final JwtVerifier verifier,
+            final ErrorResponseWriter errorWriter,
+            final MeterRegistry meterRegistry,
+            @Value("${gateway.security.enabled:true}") final Boolean enabled,
+            @Value("${gateway.security.public-paths:/api/auth/login,/api/auth/refresh-token,/swagger-ui.html,/swagger-ui/**,/v3/api-docs/**,/swagger-resources/**,/webjars/**,/actuator/health/**}")
+            final List<String> publicPaths) {
+        this.verifier = verifier;
+        this.errorWriter = errorWriter;
+        this.enabled = enabled;
+        this.publicPaths = publicPaths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.accepted = counter(meterRegistry, "accepted");
+        this.rejected = counter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+        final var request = exchange.getRequest();
+
+        if (!enabled || HttpMethod.OPTIONS.equals(request.getMethod()) || isPublic(exchange)) {
+            return chain.filter(withIdentity(exchange, null));
+        }
+
+        final var authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) return reject(exchange, "Authorization header is missing");
+        if (!authorization.startsWith(BEARER)) return reject(exchange, "Invalid authorization header");
+
+        final VerifiedToken token;
+        try {
+            token = verifier.verify(authorization.substring(BEARER.length()));
+        } catch (InvalidTokenException e) {
+            return reject(exchange, e.getMessage());
+        }
+
+        accepted.increment();
+        exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, token);
+        return chain.filter(withIdentity(exchange, token));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    // Cabeçalhos de identidade enviados pelo cliente são sempre descartados: só saem daqui depois da verificação
+    private static ServerWebExchange withIdentity(final ServerWebExchange exchange, final VerifiedToken token) {
+        return exchange.mutate()
+                .request(builder -> builder.headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_EMAIL_HEADER);
+                    headers.remove(USER_NAME_HEADER);
+                    headers.remove(USER_ROLES_HEADER);
+                    if (token == null) return;
+
+                    if (token.id() != null) headers.set(USER_ID_HEADER, token.id());
+                    if (token.name() != null) headers.set(USER_NAME_HEADER, token.name());
+                    headers.set(USER_EMAIL_HEADER, token.username());
+                    headers.set(USER_ROLES_HEADER, String.join(",", token.authorities()));
+                }))
+                .build();
+    }
+
+    private boolean isPublic(final ServerWebExchange exchange) {
+        final var path = exchange.getRequest().getPath().pathWithinApplication();
+        for (final var pattern : publicPaths) {
+            if (pattern.matches(path)) return true;
+        }
+        return false;
+    }
+
+    private Mono<Void> reject(final ServerWebExchange exchange, final String message) {
+        rejected.increment();
+        return errorWriter.write(exchange, HttpStatus.UNAUTHORIZED, message);
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("gateway.auth.requests")
+                .description("Requisições autenticadas na borda por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
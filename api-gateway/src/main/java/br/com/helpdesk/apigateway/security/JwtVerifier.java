@@ -0,0 +1,64 @@
+package br.com.helpdesk.apigateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import models.security.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+// Parser montado uma única vez com a chave HMAC; tokens verificados ficam no VerifiedTokenCache até o exp
+@Component
+public class JwtVerifier {
+
+    private final JwtParser parser;
+    private final VerifiedTokenCache<VerifiedToken> verifiedTokens;
+
+    public JwtVerifier(
+            final MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") final String secret,
+            @Value("${jwt.cache.max-size:10000}") final Long maxSize,
+            @Value("${jwt.cache.max-ttl:PT15M}") final Duration maxTtl) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secret.getBytes())
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache<>(
+                meterRegistry, "gateway.jwt.verified-tokens", maxSize, maxTtl, VerifiedToken::expiresAt);
+    }
+
+    // Lança InvalidTokenException se a assinatura, o formato ou a expiração forem inválidos
+    public VerifiedToken verify(final String token) {
+        return verifiedTokens.get(token, value -> toVerifiedToken(parse(value)));
+    }
+
+    private Claims parse(final String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VerifiedToken toVerifiedToken(final Claims claims) {
+        final var authorities = claims.get("authorities", List.class);
+        if (authorities == null || claims.getSubject() == null) throw new InvalidTokenException("Invalid token");
+
+        return new VerifiedToken(
+                claims.get("id", String.class),
+                claims.getSubject(),
+                claims.get("name", String.class),
+                ((List<Map<String, String>>) authorities).stream().map(authority -> authority.get("authority")).toList(),
+                nonNull(claims.getExpiration()) ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+}
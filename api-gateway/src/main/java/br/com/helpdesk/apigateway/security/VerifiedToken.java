@@ -0,0 +1,14 @@
+package br.com.helpdesk.apigateway.security;
+
+import java.time.Instant;
+import java.util.List;
+
+// expiresAt é nulo quando o token não tem exp
+public record VerifiedToken(
+        String id,
+        String username,
+        String name,
+        List<String> authorities,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,83 @@
+package br.com.helpdesk.apigateway.web;
+
+import br.com.helpdesk.apigateway.security.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Recusa pelo Content-Length, antes da autenticação, corpos maiores que o limite, sem ler nem repassar o payload.
+// Corpos sem Content-Length (chunked) são contados enquanto são repassados e interrompidos ao passar do limite
+@Component
+public class RequestSizeFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = JwtAuthenticationFilter.ORDER - 10;
+
+    private final ErrorResponseWriter errorWriter;
+    private final long maxBodySize;
+
+    public RequestSizeFilter(
+            final ErrorResponseWriter errorWriter,
+            @Value("${gateway.request.max-body-size:1MB}") final DataSize maxBodySize) {
+        this.errorWriter = errorWriter;
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+        final var contentLength = exchange.getRequest().getHeaders().getContentLength();
+        if (contentLength > maxBodySize) {
+            return tooLarge(exchange);
+        }
+        if (contentLength >= 0) return chain.filter(exchange);
+
+        final var request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                final var read = new AtomicLong();
+                return super.getBody().handle((buffer, sink) -> {
+                    if (read.addAndGet(buffer.readableByteCount()) > maxBodySize) {
+                        DataBufferUtils.release(buffer);
+                        sink.error(new BodyTooLargeException());
+                    } else {
+                        sink.next(buffer);
+                    }
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().request(request).build())
+                .onErrorResume(BodyTooLargeException.class, e -> exchange.getResponse().isCommitted()
+                        ? Mono.error(e)
+                        : tooLarge(exchange));
+    }
+
+    private Mono<Void> tooLarge(final ServerWebExchange exchange) {
+        return errorWriter.write(exchange, HttpStatus.PAYLOAD_TOO_LARGE,
+                "Request body exceeds the limit of " + maxBodySize + " bytes");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static final class BodyTooLargeException extends RuntimeException {
+
+        private BodyTooLargeException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
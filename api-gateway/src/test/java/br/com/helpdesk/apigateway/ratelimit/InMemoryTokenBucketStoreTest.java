@@ -0,0 +1,65 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Usa o relógio real: a reposição de 1 token por segundo deixa folga para a duração dos próprios testes, e só o teste
+// de reposição usa um balde rápido
+class InMemoryTokenBucketStoreTest {
+
+    private static final TokenBucket BUCKET = new TokenBucket(2, 1 / 1_000d);
+    private static final TokenBucket FAST_BUCKET = new TokenBucket(1, 1 / 200d);
+
+    private final InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(100, Duration.ofMinutes(1));
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        assertEquals(new RateLimitDecision(true, 1, 0), consume("client"));
+        assertEquals(new RateLimitDecision(true, 0, 0), consume("client"));
+
+        final var rejected = consume("client");
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertTrue(rejected.retryAfterMillis() > 0 && rejected.retryAfterMillis() <= 1_000, "retryAfter=" + rejected.retryAfterMillis());
+    }
+
+    @Test
+    void refillsWithElapsedTime() throws InterruptedException {
+        assertTrue(store.tryConsume("client", FAST_BUCKET).block().allowed());
+        assertFalse(store.tryConsume("client", FAST_BUCKET).block().allowed());
+
+        Thread.sleep(250);
+
+        assertTrue(store.tryConsume("client", FAST_BUCKET).block().allowed());
+    }
+
+    @Test
+    void refillNeverExceedsTheCapacity() throws InterruptedException {
+        store.tryConsume("client", FAST_BUCKET).block();
+        Thread.sleep(500);
+
+        // Parado por mais de duas reposições, o balde de capacidade 1 volta a ter só um token
+        final var decision = store.tryConsume("client", FAST_BUCKET).block();
+        assertTrue(decision.allowed());
+        assertEquals(0, decision.remaining());
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        consume("client");
+        consume("client");
+
+        assertFalse(consume("client").allowed());
+        assertEquals(new RateLimitDecision(true, 1, 0), consume("other"));
+    }
+
+    private RateLimitDecision consume(final String key) {
+        return store.tryConsume(key, BUCKET).block();
+    }
+
+}
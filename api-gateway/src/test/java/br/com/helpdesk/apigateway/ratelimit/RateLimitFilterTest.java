@@ -0,0 +1,171 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import br.com.helpdesk.apigateway.security.JwtAuthenticationFilter;
+import br.com.helpdesk.apigateway.security.VerifiedToken;
+import br.com.helpdesk.apigateway.web.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+
+    private static final InetSocketAddress CLIENT = new InetSocketAddress("10.0.0.1", 52_000);
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 7, 0);
+
+    private final List<String> keys = new ArrayList<>();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void requestsOutsideEveryRuleAreNotLimited() {
+        final var filter = filter(ALLOWED, false);
+
+        final var exchange = exchange(MockServerHttpRequest.get("/api/users/1"));
+        filter.filter(exchange, chain).block();
+
+        assertTrue(keys.isEmpty());
+        assertEquals(1, forwarded.get());
+        assertNull(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    void ruleWithMethodsOnlyMatchesThoseMethods() {
+        final var filter = filter(ALLOWED, false);
+
+        filter.filter(exchange(MockServerHttpRequest.get("/auth/login")), chain).block();
+        assertTrue(keys.isEmpty());
+
+        filter.filter(exchange(MockServerHttpRequest.post("/auth/login")), chain).block();
+        assertEquals(List.of("login:ip:10.0.0.1"), keys);
+    }
+
+    @Test
+    void firstMatchingRuleWins() {
+        final var filter = filter(ALLOWED, false);
+
+        filter.filter(exchange(MockServerHttpRequest.post("/api/orders/bulk-status")), chain).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/orders/1")), chain).block();
+
+        assertEquals(List.of("orders-write:ip:10.0.0.1", "orders:ip:10.0.0.1"), keys);
+    }
+
+    @Test
+    void userRulesKeyByTheVerifiedTokenAndFallBackToTheIp() {
+        final var filter = filter(ALLOWED, false);
+
+        final var authenticated = exchange(MockServerHttpRequest.get("/api/orders"));
+        authenticated.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE,
+                new VerifiedToken("652ee4f0a1b2c3d4e5f60718", "cliente@mail.com", "Cliente", List.of("ROLE_CUSTOMER"), null));
+        filter.filter(authenticated, chain).block();
+
+        final var withoutId = exchange(MockServerHttpRequest.get("/api/orders"));
+        withoutId.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE,
+                new VerifiedToken(null, "cliente@mail.com", "Cliente", List.of("ROLE_CUSTOMER"), null));
+        filter.filter(withoutId, chain).block();
+
+        filter.filter(exchange(MockServerHttpRequest.get("/api/orders")), chain).block();
+
+        assertEquals(List.of(
+                "orders:user:652ee4f0a1b2c3d4e5f60718",
+                "orders:user:cliente@mail.com",
+                "orders:ip:10.0.0.1"
+        ), keys);
+    }
+
+    @Test
+    void forwardedForIsOnlyUsedWhenTrusted() {
+        final var request = MockServerHttpRequest.post("/auth/login").header("X-Forwarded-For", "203.0.113.9");
+
+        filter(ALLOWED, false).filter(exchange(request), chain).block();
+        filter(ALLOWED, true).filter(exchange(request), chain).block();
+
+        assertEquals(List.of("login:ip:10.0.0.1", "login:ip:203.0.113.9"), keys);
+    }
+
+    @Test
+    void allowedRequestsGoThroughWithTheRemainingTokens() {
+        final var exchange = exchange(MockServerHttpRequest.get("/api/orders"));
+
+        filter(ALLOWED, false).filter(exchange, chain).block();
+
+        assertEquals(1, forwarded.get());
+        assertEquals("7", exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"));
+        assertEquals(1, meterRegistry.counter("gateway.rate-limit.requests", "rule", "orders", "result", "allowed").count());
+    }
+
+    @Test
+    void rejectedRequestsGet429WithRetryAfterRoundedUpToSeconds() {
+        assertEquals("2", rejectWithRetryAfter(1_500));
+        assertEquals("1", rejectWithRetryAfter(1_000));
+        assertEquals("1", rejectWithRetryAfter(1));
+        // Nunca 0: o cliente deve esperar ao menos um segundo
+        assertEquals("1", rejectWithRetryAfter(0));
+
+        assertEquals(0, forwarded.get());
+        assertEquals(4, meterRegistry.counter("gateway.rate-limit.requests", "rule", "orders", "result", "rejected").count());
+    }
+
+    private String rejectWithRetryAfter(final long retryAfterMillis) {
+        final var exchange = exchange(MockServerHttpRequest.get("/api/orders"));
+
+        filter(new RateLimitDecision(false, 0, retryAfterMillis), false).filter(exchange, chain).block();
+
+        final var response = exchange.getResponse();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("0", response.getHeaders().getFirst("X-RateLimit-Remaining"));
+        return response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+    }
+
+    private RateLimitFilter filter(final RateLimitDecision decision, final boolean trustForwardedFor) {
+        final var properties = new RateLimitProperties();
+        properties.setTrustForwardedFor(trustForwardedFor);
+        properties.setRules(List.of(
+                rule("login", RateLimitProperties.KeyType.IP, List.of("/auth/login"), List.of("POST")),
+                rule("orders-write", RateLimitProperties.KeyType.USER, List.of("/api/orders/bulk-status"), List.of("POST")),
+                rule("orders", RateLimitProperties.KeyType.USER, List.of("/api/orders", "/api/orders/**"), List.of())
+        ));
+
+        final TokenBucketStore store = (key, bucket) -> {
+            keys.add(key);
+            return Mono.just(decision);
+        };
+        return new RateLimitFilter(properties, store, new ErrorResponseWriter(new ObjectMapper()), meterRegistry);
+    }
+
+    private static RateLimitProperties.Rule rule(
+            final String name,
+            final RateLimitProperties.KeyType keyBy,
+            final List<String> paths,
+            final List<String> methods) {
+        final var rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setKeyBy(keyBy);
+        rule.setPaths(paths);
+        rule.setMethods(methods);
+        return rule;
+    }
+
+    private static MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.remoteAddress(CLIENT));
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// O script Lua roda só no Redis; aqui ficam os argumentos enviados, a leitura do resultado e o fallback
+class RedisTokenBucketStoreTest {
+
+    private static final TokenBucket BUCKET = new TokenBucket(20, 0.01);
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final TokenBucketStore fallback = mock(TokenBucketStore.class);
+    private final RedisTokenBucketStore store = new RedisTokenBucketStore(redisTemplate, fallback);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendsTheBucketToTheScriptAndReadsItsResult() {
+        doReturn(Flux.just(List.of(1L, 19L, 0L))).when(redisTemplate).execute(any(), anyList(), anyList());
+
+        assertEquals(new RateLimitDecision(true, 19, 0), store.tryConsume("orders:user:1", BUCKET).block());
+
+        final ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<List<Object>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(), keys.capture(), args.capture());
+        assertEquals(List.of("gateway:rate-limit:orders:user:1"), keys.getValue());
+        // capacidade, tokens por milissegundo e TTL igual à reposição completa
+        assertEquals(List.of("20", "0.01", "2000"), args.getValue());
+        verify(fallback, never()).tryConsume(any(), any());
+    }
+
+    @Test
+    void readsARejection() {
+        doReturn(Flux.just(List.of(0L, 0L, 73L))).when(redisTemplate).execute(any(), anyList(), anyList());
+
+        assertEquals(new RateLimitDecision(false, 0, 73), store.tryConsume("login:ip:10.0.0.1", BUCKET).block());
+    }
+
+    @Test
+    void fallsBackToTheLocalBucketsWhenRedisFails() {
+        final var local = new RateLimitDecision(true, 5, 0);
+        doReturn(Flux.error(new RedisConnectionFailureException("Redis fora"))).when(redisTemplate).execute(any(), anyList(), anyList());
+        when(fallback.tryConsume("orders:user:1", BUCKET)).thenReturn(Mono.just(local));
+
+        assertEquals(local, store.tryConsume("orders:user:1", BUCKET).block());
+    }
+
+}
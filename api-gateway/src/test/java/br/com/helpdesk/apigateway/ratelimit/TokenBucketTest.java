@@ -0,0 +1,42 @@
+package br.com.helpdesk.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    @Test
+    void ofConvertsTheRefillToTokensPerMillisecond() {
+        final var bucket = TokenBucket.of(rule(20, 10, Duration.ofSeconds(1)));
+
+        assertEquals(20, bucket.capacity());
+        assertEquals(0.01, bucket.refillPerMillis(), 1e-12);
+        assertEquals(2_000, bucket.fullRefillMillis());
+    }
+
+    @Test
+    void fullRefillRoundsUp() {
+        assertEquals(34, new TokenBucket(10, 0.3).fullRefillMillis());
+    }
+
+    @Test
+    void ofRejectsRulesThatNeverRefill() {
+        assertThrows(IllegalArgumentException.class, () -> TokenBucket.of(rule(0, 10, Duration.ofSeconds(1))));
+        assertThrows(IllegalArgumentException.class, () -> TokenBucket.of(rule(20, 0, Duration.ofSeconds(1))));
+        assertThrows(IllegalArgumentException.class, () -> TokenBucket.of(rule(20, 10, Duration.ZERO)));
+    }
+
+    private static RateLimitProperties.Rule rule(final long capacity, final long refillTokens, final Duration refillPeriod) {
+        final var rule = new RateLimitProperties.Rule();
+        rule.setName("test");
+        rule.setCapacity(capacity);
+        rule.setRefillTokens(refillTokens);
+        rule.setRefillPeriod(refillPeriod);
+        return rule;
+    }
+
+}
@@ -1,8 +1,12 @@
 package br.com.helpdesk.authserviceapi;
 
+import models.threads.VirtualThreadConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
+// Virtual threads opcionais: as requisições esperam o MongoDB
+@Import(VirtualThreadConfig.class)
 @SpringBootApplication
 public class AuthServiceApiApplication {
 
@@ -25,10 +25,17 @@ public class EmailConfig {
     @Value("${mail.protocol}")
     private String protocol;
 
+    @Value("${mail.timeout-ms:10000}")
+    private String timeout;
+
     @Bean
     public JavaMailSenderImpl mailSender() {
         var properties = new Properties();
         properties.put("mail.smtp.starttls.enable", "true");
+        // Conexões SMTP são mantidas abertas pelo MailBatchSender, então uma conexão travada não pode segurar o lote
+        properties.put("mail.smtp.connectiontimeout", timeout);
+        properties.put("mail.smtp.timeout", timeout);
+        properties.put("mail.smtp.writetimeout", timeout);
 
         var mailSender = new JavaMailSenderImpl();
         mailSender.setHost(host);
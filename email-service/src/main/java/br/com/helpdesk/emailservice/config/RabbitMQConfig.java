@@ -1,23 +1,88 @@
 package br.com.helpdesk.emailservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import models.messaging.CodecMessageConverter;
+import models.messaging.MessageCodecs;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class RabbitMQConfig {
 
+    public static final String ORDERS_LISTENER_CONTAINER_FACTORY = "ordersListenerContainerFactory";
+
     @Bean
-    public SimpleMessageConverter messageConverter() {
-        var messageConverter = new SimpleMessageConverter();
-        messageConverter.setAllowedListPatterns(
+    public MessageConverter messageConverter(@Value("${messaging.codec:json}") final String codec) {
+        // Mantido apenas para mensagens em serialização Java ainda pendentes na fila
+        var legacyMessageConverter = new SimpleMessageConverter();
+        legacyMessageConverter.setAllowedListPatterns(
                 List.of(
                         "models.*", "java.util.*", "java.time.*", "java.lang.*"
                 )
         );
-        return messageConverter;
+        return new CodecMessageConverter(MessageCodecs.forName(codec), MessageCodecs.all(), legacyMessageConverter);
+    }
+
+    @Bean(ORDERS_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory ordersListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            final ConnectionFactory connectionFactory,
+            final MeterRegistry meterRegistry,
+            @Value("${email.listener.orders.concurrency:4}") final Integer concurrency,
+            @Value("${email.listener.orders.max-concurrency:16}") final Integer maxConcurrency,
+            @Value("${email.listener.orders.prefetch:10}") final Integer prefetch,
+            @Value("${email.listener.orders.start-consumer-min-interval:PT1S}") final Duration startConsumerMinInterval,
+            @Value("${email.listener.orders.virtual-threads:true}") final Boolean virtualThreads) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        // Sobe novos consumidores rapidamente em picos de criação de ordens
+        factory.setConsecutiveActiveTrigger(1);
+        factory.setStartConsumerMinInterval(startConsumerMinInterval.toMillis());
+
+        var taskExecutor = new SimpleAsyncTaskExecutor("orders-listener-");
+        if (virtualThreads) taskExecutor.setThreadFactory(Thread.ofVirtual().name("orders-listener-", 0).factory());
+        factory.setTaskExecutor(taskExecutor);
+
+        factory.setAdviceChain(listenerMetrics(meterRegistry, "orders"));
+        return factory;
+    }
+
+    private static MethodInterceptor listenerMetrics(final MeterRegistry meterRegistry, final String listener) {
+        final var tags = Tags.of("listener", listener);
+        final var inFlight = meterRegistry.gauge("email.listener.in-flight", tags, new AtomicInteger());
+        final var processing = Timer.builder("email.listener.processing")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        return invocation -> {
+            final var sample = Timer.start(meterRegistry);
+            inFlight.incrementAndGet();
+            try {
+                return invocation.proceed();
+            } finally {
+                inFlight.decrementAndGet();
+                sample.stop(processing);
+            }
+        };
     }
 
 }
@@ -0,0 +1,39 @@
+package br.com.helpdesk.emailservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+public class ThymeleafConfig {
+
+    // Substitui o engine da auto-configuração para que o cache de templates não dependa de spring.thymeleaf.cache
+    @Bean
+    public SpringTemplateEngine templateEngine(
+            @Value("${email.templates.cache-size:50}") final Integer cacheSize) {
+        var templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+        templateResolver.setCacheTTLMs(null);
+
+        var cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(cacheSize);
+
+        var templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setCacheManager(cacheManager);
+        templateEngine.setEnableSpringELCompiler(true);
+
+        return templateEngine;
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.helpdesk.emailservice.email;
+
+import br.com.helpdesk.emailservice.enums.OperationEnum;
+import br.com.helpdesk.emailservice.utils.EmailUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import models.dtos.OrderCreatedMessage;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.StringWriter;
+import java.io.Writer;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EmailRenderer {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final TemplateEngine templateEngine;
+
+    // Os consumidores da fila são threads de longa duração, então cada um reaproveita o seu contexto e buffer
+    private final ThreadLocal<RenderState> states = ThreadLocal.withInitial(RenderState::new);
+
+    // Faz o parse de todos os templates na subida, deixando-os no cache do engine antes da primeira mensagem
+    @PostConstruct
+    void precompile() {
+        for (final var operation : OperationEnum.values()) {
+            templateEngine.process(operation.getTemplate(), new Context(), Writer.nullWriter());
+        }
+        log.info("Templates de e-mail carregados no cache");
+    }
+
+    public String render(final OrderCreatedMessage orderDTO, final OperationEnum operation) {
+        final var state = states.get();
+        final var context = state.context;
+        final var buffer = state.writer.getBuffer();
+
+        context.clearVariables();
+        buffer.setLength(0);
+
+        switch (operation) {
+            case ORDER_CREATED -> EmailUtils.getContextToCreatedOrder(context, orderDTO);
+            case ORDER_UPDATED -> EmailUtils.getContextToUpdatedOrder(context, orderDTO);
+            case ORDER_DELETED -> EmailUtils.getContextToDeletedOrder(context, orderDTO);
+        }
+
+        templateEngine.process(operation.getTemplate(), context, state.writer);
+        final var html = buffer.toString();
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) states.remove();
+        return html;
+    }
+
+    private static final class RenderState {
+        private final Context context = new Context();
+        private final StringWriter writer = new StringWriter(INITIAL_BUFFER_SIZE);
+    }
+
+}
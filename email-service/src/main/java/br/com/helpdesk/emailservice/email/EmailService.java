@@ -9,8 +9,6 @@ import lombok.extern.log4j.Log4j2;
 import models.dtos.OrderCreatedMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Log4j2
 @Service
@@ -18,38 +16,18 @@ import org.thymeleaf.context.Context;
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailRenderer emailRenderer;
+    private final MailBatchSender mailBatchSender;
 
     public void sendHtmlMail(
             final OrderCreatedMessage orderDTO, OperationEnum operation) throws MessagingException {
+        log.info("Enviando email de {}", operation);
         MimeMessage message = mailSender.createMimeMessage();
-        String process = getContext(orderDTO, operation);
+        String process = emailRenderer.render(orderDTO, operation);
 
-        EmailUtils.getMimeMessage(message, process, orderDTO, "Ordem de serviço criada com sucesso");
+        EmailUtils.getMimeMessage(message, process, orderDTO, operation.getSubject());
 
-        mailSender.send(message);
-    }
-
-    private String getContext(OrderCreatedMessage orderDTO, OperationEnum operation) {
-        Context context = new Context();
-
-        return switch (operation) {
-            case ORDER_CREATED -> {
-                log.info("Enviando email de criação de ordem de serviço");
-                context = EmailUtils.getContextToCreatedOrder(orderDTO);
-                yield templateEngine.process("email/order-created", context);
-            }
-            case ORDER_UPDATED -> {
-                log.info("Enviando email de atualização de ordem de serviço");
-//                 context = EmailUtils.getContextToUpdatedOrder(orderDTO);
-                yield templateEngine.process("email/order-updated", context);
-            }
-            case ORDER_DELETED -> {
-                log.info("Enviando email de exclusão de ordem de serviço");
-                // context = EmailUtils.getContextToDeletedOrder(orderDTO);
-                yield templateEngine.process("email/order-deleted", context);
-            }
-        };
+        mailBatchSender.send(message);
     }
 
 }
@@ -0,0 +1,212 @@
+package br.com.helpdesk.emailservice.email;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Agrupa os e-mails recebidos pelos consumidores em lotes e os envia por conexões SMTP persistentes, evitando um novo
+// handshake TLS por mensagem. A fila limitada bloqueia os consumidores quando o SMTP não acompanha.
+// O lote é o que estiver na fila quando um worker fica livre, sem janela de espera: cada consumidor fica bloqueado até
+// o envio da própria mensagem (o ack do RabbitMQ depende do resultado), então a fila nunca passa da concorrência do
+// listener e uma janela fixa só somaria latência a todo e-mail. Sob carga, as mensagens que chegam durante o envio de
+// um lote formam o próximo.
+// Um erro inesperado num lote falha só as mensagens dele e o worker segue; o consumidor espera no máximo send-timeout,
+// para que um worker morto não trave o listener
+@Log4j2
+@Component
+public class MailBatchSender {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PendingMail> queue;
+    private final ExecutorService executor;
+    private final Integer maxBatchSize;
+    private final Duration idleTimeout;
+    private final Duration sendTimeout;
+    private final Timer sendTimer;
+    private final DistributionSummary batchSize;
+
+    public MailBatchSender(
+            final JavaMailSenderImpl mailSender,
+            final MeterRegistry meterRegistry,
+            @Value("${email.batch.max-size:50}") final Integer maxBatchSize,
+            @Value("${email.batch.queue-capacity:200}") final Integer queueCapacity,
+            @Value("${email.batch.connections:2}") final Integer connections,
+            @Value("${email.batch.idle-timeout:PT30S}") final Duration idleTimeout,
+            @Value("${email.batch.send-timeout:PT2M}") final Duration sendTimeout) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.idleTimeout = idleTimeout;
+        this.sendTimeout = sendTimeout;
+        this.sendTimer = Timer.builder("email.batch.send")
+                .description("Tempo para enviar um lote de e-mails pelo SMTP")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("email.batch.size")
+                .description("Quantidade de e-mails por lote enviado")
+                .register(meterRegistry);
+        meterRegistry.gauge("email.batch.pending", queue, BlockingQueue::size);
+
+        // Cada worker mantém a sua própria conexão SMTP
+        this.executor = Executors.newFixedThreadPool(connections, new CustomizableThreadFactory("mail-sender-"));
+        for (int i = 0; i < connections; i++) {
+            executor.execute(this::sendLoop);
+        }
+    }
+
+    public void send(final MimeMessage message) throws MessagingException {
+        final var pending = new PendingMail(message, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+            pending.result().get(sendTimeout.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Se ainda estiver na fila, não é mais enviada: a mensagem volta para o RabbitMQ
+            queue.remove(pending);
+            throw new MessagingException("Tempo esgotado aguardando o envio do e-mail", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Envio de e-mail interrompido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MessagingException cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new MessagingException("Erro ao enviar e-mail", e);
+        }
+    }
+
+    private void sendLoop() {
+        Transport transport = null;
+        final List<PendingMail> batch = new ArrayList<>(maxBatchSize);
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final var first = queue.poll(idleTimeout.toMillis(), MILLISECONDS);
+                if (isNull(first)) {
+                    transport = close(transport);
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+
+                try {
+                    transport = sendBatch(transport, batch);
+                } catch (RuntimeException e) {
+                    log.error("Erro inesperado ao enviar lote de e-mails", e);
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                    transport = close(transport);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final var cause = new MessagingException("Serviço de e-mail finalizado antes do envio");
+            batch.forEach(pending -> pending.result().completeExceptionally(cause));
+        } catch (Error e) {
+            log.error("Worker de envio de e-mails finalizado", e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            throw e;
+        } finally {
+            close(transport);
+        }
+    }
+
+    private Transport sendBatch(Transport transport, final List<PendingMail> batch) {
+        final var sample = Timer.start();
+        try {
+            transport = connect(transport);
+        } catch (MessagingException e) {
+            log.error("Erro ao conectar no servidor SMTP: {}", e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return close(transport);
+        }
+
+        for (final var pending : batch) {
+            try {
+                final var message = prepare(pending.message());
+                final var recipients = message.getAllRecipients();
+                transport.sendMessage(message, nonNull(recipients) ? recipients : new Address[0]);
+                pending.result().complete(null);
+            } catch (MessagingException | RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+
+        sample.stop(sendTimer);
+        batchSize.record(batch.size());
+        log.debug("Lote de {} e-mails enviado", batch.size());
+        return transport;
+    }
+
+    private Transport connect(final Transport transport) throws MessagingException {
+        if (nonNull(transport) && transport.isConnected()) return transport;
+        close(transport);
+
+        final var session = mailSender.getSession();
+        final var connected = nonNull(mailSender.getProtocol())
+                ? session.getTransport(mailSender.getProtocol())
+                : session.getTransport();
+        connected.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return connected;
+    }
+
+    // Mesmo tratamento do JavaMailSenderImpl antes de entregar a mensagem ao Transport
+    private static MimeMessage prepare(final MimeMessage message) throws MessagingException {
+        if (isNull(message.getSentDate())) message.setSentDate(new Date());
+
+        final var messageId = message.getMessageID();
+        message.saveChanges();
+        if (nonNull(messageId)) message.setHeader("Message-ID", messageId);
+
+        return message;
+    }
+
+    private static Transport close(final Transport transport) {
+        if (isNull(transport)) return null;
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.warn("Erro ao fechar conexão SMTP: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        final var cause = new MessagingException("Serviço de e-mail finalizado antes do envio");
+        PendingMail pending;
+        while (nonNull(pending = queue.poll())) {
+            pending.result().completeExceptionally(cause);
+        }
+    }
+
+    private record PendingMail(MimeMessage message, CompletableFuture<Void> result) {
+    }
+
+}
@@ -1,7 +1,23 @@
 package br.com.helpdesk.emailservice.enums;
 
 public enum OperationEnum {
-    ORDER_CREATED,
-    ORDER_UPDATED,
-    ORDER_DELETED;
+    ORDER_CREATED("email/order-created", "Ordem de serviço criada com sucesso"),
+    ORDER_UPDATED("email/order-updated", "Ordem de serviço atualizada"),
+    ORDER_DELETED("email/order-deleted", "Ordem de serviço excluída");
+
+    private final String template;
+    private final String subject;
+
+    OperationEnum(String template, String subject) {
+        this.template = template;
+        this.subject = subject;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
 }
@@ -11,6 +11,7 @@ import org.springframework.amqp.rabbit.annotation.QueueBinding;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import static br.com.helpdesk.emailservice.config.RabbitMQConfig.ORDERS_LISTENER_CONTAINER_FACTORY;
 import static br.com.helpdesk.emailservice.enums.OperationEnum.ORDER_CREATED;
 
 @Log4j2
@@ -21,6 +22,8 @@ public class OrderListener {
     private final EmailService emailService;
 
     @RabbitListener(
+            id = "orders",
+            containerFactory = ORDERS_LISTENER_CONTAINER_FACTORY,
             bindings = @QueueBinding(
                     exchange = @Exchange(value = "helpdesk", type = "topic"),
                     value = @Queue(value = "queue.orders"),
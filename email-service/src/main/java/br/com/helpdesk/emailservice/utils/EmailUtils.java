@@ -24,9 +24,7 @@ public class EmailUtils {
         helper.setText(process, true);
     }
 
-    public static Context getContextToCreatedOrder(OrderCreatedMessage orderDTO) {
-        Context context = new Context();
-
+    public static Context getContextToCreatedOrder(Context context, OrderCreatedMessage orderDTO) {
         context.setVariable("customerName", orderDTO.getCustomer().name());
         context.setVariable("orderId", orderDTO.getOrder().id());
         context.setVariable("title", orderDTO.getOrder().title());
@@ -38,4 +36,21 @@ public class EmailUtils {
         return context;
     }
 
+    public static Context getContextToUpdatedOrder(Context context, OrderCreatedMessage orderDTO) {
+        getContextToCreatedOrder(context, orderDTO);
+        context.setVariable("closedDate", orderDTO.getOrder().closedAt());
+
+        return context;
+    }
+
+    public static Context getContextToDeletedOrder(Context context, OrderCreatedMessage orderDTO) {
+        context.setVariable("customerName", orderDTO.getCustomer().name());
+        context.setVariable("orderId", orderDTO.getOrder().id());
+        context.setVariable("title", orderDTO.getOrder().title());
+        context.setVariable("creationDate", orderDTO.getOrder().createdAt());
+        context.setVariable("responsibleTechnician", orderDTO.getRequester().name());
+
+        return context;
+    }
+
 }
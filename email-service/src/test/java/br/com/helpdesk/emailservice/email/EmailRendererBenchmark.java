@@ -0,0 +1,51 @@
+package br.com.helpdesk.emailservice.email;
+
+import br.com.helpdesk.emailservice.config.ThymeleafConfig;
+import br.com.helpdesk.emailservice.enums.OperationEnum;
+import models.dtos.OrderCreatedMessage;
+import models.fixtures.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Uma thread por benchmark: o resultado em ops/s corresponde a e-mails renderizados por segundo por core
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class EmailRendererBenchmark {
+
+    @Param({"ORDER_CREATED", "ORDER_UPDATED", "ORDER_DELETED"})
+    private OperationEnum operation;
+
+    private EmailRenderer renderer;
+    private OrderCreatedMessage message;
+
+    @Setup
+    public void setup() {
+        renderer = new EmailRenderer(new ThymeleafConfig().templateEngine(50));
+        renderer.precompile();
+
+        message = BenchmarkFixtures.orderCreatedMessage(BenchmarkFixtures.CLOSED_AT);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(message, operation);
+    }
+
+}
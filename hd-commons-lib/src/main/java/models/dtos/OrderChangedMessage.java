@@ -0,0 +1,25 @@
+package models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderChangedMessage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<Long> ids;
+    // Versão de tb_change_version produzida pela escrita
+    private Long version;
+
+}
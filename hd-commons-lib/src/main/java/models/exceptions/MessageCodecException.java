@@ -0,0 +1,9 @@
+package models.exceptions;
+
+public class MessageCodecException extends RuntimeException {
+
+    public MessageCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,56 @@
+package models.messaging;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import models.exceptions.MessageCodecException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// O schema Avro é derivado da própria classe da mensagem, então produtor e consumidor
+// precisam usar a mesma versão do hd-commons-lib; para versões diferentes use o JsonMessageCodec
+public class AvroMessageCodec implements MessageCodec {
+
+    public static final String CONTENT_TYPE = "application/avro";
+
+    private final AvroMapper mapper = new AvroMapper();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(final Object payload) {
+        try {
+            return writers.computeIfAbsent(payload.getClass(), type -> mapper.writer(schemaFor(type)))
+                    .writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageCodecException("Erro ao serializar mensagem em Avro: " + payload.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(final byte[] body, final Class<T> type) {
+        try {
+            return readers.computeIfAbsent(type, t -> mapper.readerFor(t).with(schemaFor(t)))
+                    .readValue(body);
+        } catch (IOException e) {
+            throw new MessageCodecException("Erro ao desserializar mensagem Avro para " + type.getName(), e);
+        }
+    }
+
+    private AvroSchema schemaFor(final Class<?> type) {
+        try {
+            return mapper.schemaFor(type);
+        } catch (IOException e) {
+            throw new MessageCodecException("Erro ao gerar schema Avro para " + type.getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package models.messaging;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+public class CodecMessageConverter implements MessageConverter {
+
+    public static final String TYPE_ID_HEADER = "__TypeId__";
+    private static final String TRUSTED_PACKAGE = "models.";
+
+    private final MessageCodec producerCodec;
+    private final Map<String, MessageCodec> codecsByContentType;
+    private final MessageConverter fallback;
+
+    // O produtor usa um único codec; o consumidor decodifica pelo content-type e delega os demais
+    // formatos (texto, mensagens legadas) ao fallback
+    public CodecMessageConverter(final MessageCodec producerCodec, final List<MessageCodec> codecs, final MessageConverter fallback) {
+        this.producerCodec = producerCodec;
+        this.codecsByContentType = codecs.stream().collect(toMap(MessageCodec::contentType, identity()));
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties) {
+        messageProperties.setContentType(producerCodec.contentType());
+        messageProperties.setHeader(TYPE_ID_HEADER, object.getClass().getName());
+        return new Message(producerCodec.encode(object), messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(final Message message) {
+        final var properties = message.getMessageProperties();
+        final var codec = codecsByContentType.get(properties.getContentType());
+
+        if (codec == null) return fallback.fromMessage(message);
+
+        return codec.decode(message.getBody(), targetType(properties));
+    }
+
+    private static Class<?> targetType(final MessageProperties properties) {
+        if (properties.getInferredArgumentType() instanceof Class<?> type && type != Object.class) return type;
+
+        final String typeId = properties.getHeader(TYPE_ID_HEADER);
+        if (typeId != null && typeId.startsWith(TRUSTED_PACKAGE)) {
+            try {
+                return Class.forName(typeId);
+            } catch (ClassNotFoundException e) {
+                throw new MessageConversionException("Tipo da mensagem não encontrado: " + typeId, e);
+            }
+        }
+
+        throw new MessageConversionException("Não foi possível determinar o tipo da mensagem: " + typeId);
+    }
+
+}
@@ -0,0 +1,40 @@
+package models.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import models.exceptions.MessageCodecException;
+
+import java.io.IOException;
+
+public class JsonMessageCodec implements MessageCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    // Propriedades desconhecidas são ignoradas para que produtor e consumidor possam evoluir em versões diferentes
+    private final ObjectMapper mapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(final Object payload) {
+        try {
+            return mapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageCodecException("Erro ao serializar mensagem em JSON: " + payload.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(final byte[] body, final Class<T> type) {
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new MessageCodecException("Erro ao desserializar mensagem JSON para " + type.getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package models.messaging;
+
+public interface MessageCodec {
+
+    String contentType();
+
+    byte[] encode(Object payload);
+
+    <T> T decode(byte[] body, Class<T> type);
+
+}
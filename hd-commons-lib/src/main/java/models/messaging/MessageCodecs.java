@@ -0,0 +1,22 @@
+package models.messaging;
+
+import java.util.List;
+
+public final class MessageCodecs {
+
+    private MessageCodecs() {
+    }
+
+    public static List<MessageCodec> all() {
+        return List.of(new JsonMessageCodec(), new AvroMessageCodec());
+    }
+
+    public static MessageCodec forName(final String name) {
+        return switch (name) {
+            case "json" -> new JsonMessageCodec();
+            case "avro" -> new AvroMessageCodec();
+            default -> throw new IllegalArgumentException("Codec de mensagem inválido: " + name + ". Permitidos: json, avro");
+        };
+    }
+
+}
@@ -0,0 +1,15 @@
+package models.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+public record FindUsersByIdsRequest(
+        @Schema(description = "IDs dos usuários", example = "[\"64bb3bbe319d2b6e45dd23dd\", \"689f3d3b875e70383bf9a82f\"]")
+        @NotEmpty(message = "O campo ids não pode ser vazio.")
+        @Size(max = 500, message = "O campo ids deve ter no máximo 500 elementos.")
+        Set<String> ids
+) {
+}
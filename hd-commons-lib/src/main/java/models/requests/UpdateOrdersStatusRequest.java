@@ -0,0 +1,21 @@
+package models.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+public record UpdateOrdersStatusRequest(
+        @Schema(description = "IDs das ordens", example = "[10, 11, 12]")
+        @NotEmpty(message = "O campo ids não pode ser vazio.")
+        @Size(max = 1000, message = "O campo ids deve ter no máximo 1000 elementos.")
+        Set<Long> ids,
+
+        @Schema(description = "Novo status das ordens", example = "Closed")
+        @NotBlank(message = "O campo status não poder ser nulo ou vazio")
+        @Size(min = 4, max = 15, message = "O campo status deve ter entre 4 e 15 caracteres.")
+        String status
+) {
+}
@@ -0,0 +1,24 @@
+package models.responses;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+public record BulkImportResponse(
+        Long received,
+        Long created,
+        Long failed,
+        Boolean aborted,
+        List<RowError> errors,
+        Long elapsedMillis,
+        Double rowsPerSecond
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Linha a partir de 1, sem contar o cabeçalho do CSV
+    public record RowError(Long row, String message) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+}
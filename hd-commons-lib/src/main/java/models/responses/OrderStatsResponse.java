@@ -0,0 +1,18 @@
+package models.responses;
+
+import models.enums.OrderStatusEnum;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+public record OrderStatsResponse(
+        Map<OrderStatusEnum, Long> countByStatus,
+        Map<String, Long> openByRequester,
+        Long closedCount,
+        Long meanTimeToCloseSeconds,
+        String updatedAt
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
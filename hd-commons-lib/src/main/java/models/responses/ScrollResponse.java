@@ -0,0 +1,20 @@
+package models.responses;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record ScrollResponse<T>(
+        List<T> content,
+        String continuationToken,
+        Boolean hasNext
+) {
+
+    public <R> ScrollResponse<R> map(final Function<? super T, ? extends R> converter) {
+        return new ScrollResponse<>(
+                content.stream().<R>map(converter).toList(),
+                continuationToken,
+                hasNext
+        );
+    }
+
+}
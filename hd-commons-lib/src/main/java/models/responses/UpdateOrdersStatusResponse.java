@@ -0,0 +1,15 @@
+package models.responses;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+// Ordens inexistentes ou que já estavam no status pedido não entram em updatedIds
+public record UpdateOrdersStatusResponse(
+        Integer requested,
+        Integer updated,
+        List<Long> updatedIds
+) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
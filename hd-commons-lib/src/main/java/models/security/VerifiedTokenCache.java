@@ -0,0 +1,93 @@
+package models.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Tokens JWT já verificados, usado pelo gateway e pelo BFF. A chave é o hash SHA-256 do token (o token em si não fica
+// em memória) e cada entrada vale até o exp, limitada a maxTtl; token sem exp (expiresAt nulo) fica maxTtl
+public class VerifiedTokenCache<T> {
+
+    private final Cache<String, T> verifiedTokens;
+    private final Function<T, Instant> expiresAt;
+    private final Duration maxTtl;
+
+    public VerifiedTokenCache(
+            final MeterRegistry meterRegistry,
+            final String metricName,
+            final Long maxSize,
+            final Duration maxTtl,
+            final Function<T, Instant> expiresAt) {
+        this.expiresAt = expiresAt;
+        this.maxTtl = maxTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, metricName);
+    }
+
+    // verifier valida assinatura e claims e lança a exceção do serviço; só o token verificado entra no cache
+    public T get(final String token, final Function<String, T> verifier) {
+        final var key = hash(token);
+        final var cached = verifiedTokens.getIfPresent(key);
+        if (nonNull(cached) && !isExpired(cached)) return cached;
+
+        final var verified = verifier.apply(token);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    private boolean isExpired(final T value) {
+        final var expiration = expiresAt.apply(value);
+        return nonNull(expiration) && !expiration.isAfter(Instant.now());
+    }
+
+    private static String hash(final String token) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class TokenExpiry implements Expiry<String, T> {
+
+        @Override
+        public long expireAfterCreate(String key, T value, long currentTime) {
+            final var expiration = expiresAt.apply(value);
+            if (isNull(expiration)) return maxTtl.toNanos();
+
+            final var untilExpiration = Duration.between(Instant.now(), expiration);
+            if (untilExpiration.isNegative()) return 0;
+            return (untilExpiration.compareTo(maxTtl) < 0 ? untilExpiration : maxTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, T value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, T value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
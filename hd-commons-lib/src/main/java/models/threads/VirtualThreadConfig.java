@@ -0,0 +1,64 @@
+package models.threads;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Modo opcional com virtual threads (threads.virtual.enabled=true), importado pela aplicação de cada serviço com
+// @Import: as requisições do Tomcat e o executor da aplicação (@Async e MVC assíncrono) deixam de depender de um pool
+// fixo, então as chamadas bloqueantes do serviço não limitam mais a concorrência ao tamanho do pool. O monitor de
+// pinning aponta os trechos que ainda prendem carriers
+@Configuration
+@ConditionalOnProperty(value = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Log log = LogFactory.getLog(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Requisições HTTP atendidas por virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(Thread.ofVirtual().name("async-vt-", 0).factory());
+    }
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${threads.virtual.pinning.threshold:PT0.02S}") final Duration threshold) {
+        final var monitor = new VirtualThreadPinningMonitor(threshold);
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::pinnedCount)
+                    .description("Vezes em que uma virtual thread prendeu a carrier thread acima do limite")
+                    .register(registry);
+            FunctionCounter.builder("jvm.threads.virtual.pinned.duration", monitor, VirtualThreadPinningMonitor::pinnedSeconds)
+                    .description("Tempo total com carrier threads presas por virtual threads")
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+        return monitor;
+    }
+
+}
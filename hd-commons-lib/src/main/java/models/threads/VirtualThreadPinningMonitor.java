@@ -0,0 +1,71 @@
+package models.threads;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Acompanha o evento jdk.VirtualThreadPinned do JFR. Uma virtual thread que bloqueia dentro de um synchronized (ou de
+// código nativo) prende a carrier thread, e com poucas carriers isso volta a limitar a concorrência do serviço.
+// Cada ponto de código que prende uma carrier é logado uma única vez com a pilha, e o total fica exposto para métricas
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+    private static final int MAX_REPORTED_SITES = 1_000;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private final LongAdder pinned = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+
+    public VirtualThreadPinningMonitor(final Duration threshold) {
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    public long pinnedCount() {
+        return pinned.sum();
+    }
+
+    public double pinnedSeconds() {
+        return pinnedNanos.sum() / 1_000_000_000d;
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        pinned.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        final var stackTrace = event.getStackTrace();
+        if (stackTrace == null) return;
+
+        final var frames = stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(frames)) {
+            log.warn("Virtual thread presa à carrier thread por " + event.getDuration().toMillis() + " ms "
+                    + "(troque synchronized por ReentrantLock nesse trecho):\n" + frames);
+        }
+    }
+
+    private static String format(final RecordedFrame frame) {
+        final var method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+
+}
@@ -0,0 +1,57 @@
+package models.fixtures;
+
+import models.dtos.OrderCreatedMessage;
+import models.enums.ProfileEnum;
+import models.responses.OrderResponse;
+import models.responses.UserResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// Dados de exemplo dos benchmarks. Publicados no jar de testes da biblioteca (classifier tests) para que os benchmarks
+// dos serviços meçam os mesmos payloads
+public final class BenchmarkFixtures {
+
+    public static final String CUSTOMER_ID = "652ee4f0a1b2c3d4e5f60718";
+    public static final String REQUESTER_ID = "652ee4f0a1b2c3d4e5f60719";
+    public static final String CREATED_AT = "2023-10-17T10:15:30";
+    public static final String CLOSED_AT = "2023-10-18T09:00:00";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static UserResponse customer() {
+        return new UserResponse(CUSTOMER_ID, "Cliente", "cliente@mail.com", null, Set.of(ProfileEnum.ROLE_CUSTOMER));
+    }
+
+    public static UserResponse requester() {
+        return new UserResponse(REQUESTER_ID, "Técnico", "tecnico@mail.com", null, Set.of(ProfileEnum.ROLE_TECHNICIAN));
+    }
+
+    public static OrderResponse order(final String closedAt) {
+        return new OrderResponse("1", REQUESTER_ID, CUSTOMER_ID, "Computador não liga",
+                "O computador não liga desde ontem", "OPEN", CREATED_AT, closedAt);
+    }
+
+    public static OrderCreatedMessage orderCreatedMessage(final String closedAt) {
+        return new OrderCreatedMessage(order(closedAt), customer(), requester());
+    }
+
+    // Uma página de ordens abertas, com ids e títulos distintos
+    public static List<OrderResponse> orders(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new OrderResponse(String.valueOf(i), REQUESTER_ID, CUSTOMER_ID, "Computador não liga " + i,
+                        "O computador não liga desde ontem, já foi testada outra tomada", "OPEN", CREATED_AT, null))
+                .toList();
+    }
+
+    // Usuários com a senha já em BCrypt, como ficam no cache do BFF
+    public static List<UserResponse> users(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new UserResponse("652ee4f0a1b2c3d4e5f607" + i, "Usuário " + i, "usuario" + i + "@mail.com",
+                        "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BQ8u1LvZkzTDm2MebG9pI3LhGs2u", Set.of(ProfileEnum.ROLE_CUSTOMER)))
+                .toList();
+    }
+
+}
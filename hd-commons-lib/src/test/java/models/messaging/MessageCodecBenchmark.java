@@ -0,0 +1,79 @@
+package models.messaging;
+
+import lombok.extern.java.Log;
+import models.dtos.OrderCreatedMessage;
+import models.fixtures.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+// O tamanho da mensagem codificada vai para o log no setup. java.util.logging porque a lib não tem binding do SLF4J
+// Execução: mvn test-compile exec:java -Dexec.mainClass=models.messaging.MessageCodecBenchmark -Dexec.classpathScope=test
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Log
+public class MessageCodecBenchmark {
+
+    @Param({"java", "json", "avro"})
+    private String codec;
+
+    private OrderCreatedMessage message;
+    private MessageCodec messageCodec;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        message = BenchmarkFixtures.orderCreatedMessage(null);
+
+        if (!"java".equals(codec)) messageCodec = MessageCodecs.forName(codec);
+        encoded = encode();
+        log.info(() -> "%s: %d bytes".formatted(codec, encoded.length));
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (messageCodec != null) return messageCodec.encode(message);
+
+        final var out = new ByteArrayOutputStream();
+        try (var objects = new ObjectOutputStream(out)) {
+            objects.writeObject(message);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException, ClassNotFoundException {
+        if (messageCodec != null) return messageCodec.decode(encoded, OrderCreatedMessage.class);
+
+        try (var objects = new ObjectInputStream(new ByteArrayInputStream(encoded))) {
+            return objects.readObject();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MessageCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
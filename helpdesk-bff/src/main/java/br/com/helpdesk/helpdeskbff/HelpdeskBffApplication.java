@@ -1,11 +1,15 @@
 package br.com.helpdesk.helpdeskbff;
 
+import models.threads.VirtualThreadConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 
+// Virtual threads opcionais: requisições e StreamingResponseBody esperam o Feign e o Redis
+@Import(VirtualThreadConfig.class)
 @EnableFeignClients
 @SpringBootApplication(
         exclude = {
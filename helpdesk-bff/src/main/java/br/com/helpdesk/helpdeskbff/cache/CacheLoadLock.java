@@ -0,0 +1,14 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.util.function.Supplier;
+
+public interface CacheLoadLock {
+
+    CacheLoadLock NONE = (cacheName, key, cached, loader) -> loader.get();
+
+    // Executa o loader com o lock da chave; quem não obtém o lock deve preferir o valor que outro carregou
+    Object withLock(String cacheName, String key, Supplier<ValueWrapper> cached, Supplier<Object> loader);
+
+}
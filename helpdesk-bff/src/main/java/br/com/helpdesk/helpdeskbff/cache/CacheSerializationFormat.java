@@ -0,0 +1,28 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.cloud.openfeign.support.PageJacksonModule;
+import org.springframework.cloud.openfeign.support.SortJacksonModule;
+
+// JSON legível no redis-cli ou Smile (JSON binário), mais compacto e mais rápido de decodificar
+public enum CacheSerializationFormat {
+    JSON(new JsonFactory()),
+    SMILE(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build());
+
+    private final ObjectMapper mapper;
+
+    CacheSerializationFormat(JsonFactory factory) {
+        this.mapper = new ObjectMapper(factory)
+                .registerModule(new PageJacksonModule())
+                .registerModule(new SortJacksonModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Formato e compressão dos valores em cache: cache.redis.format (json ou smile), cache.redis.compression.enabled
+// e cache.redis.compression.threshold-bytes
+@Component
+public class CacheValueSerializers {
+
+    private final CacheSerializationFormat format;
+    private final Boolean compress;
+    private final Integer compressionThreshold;
+
+    public CacheValueSerializers(
+            @Value("${cache.redis.format:smile}") final String format,
+            @Value("${cache.redis.compression.enabled:true}") final Boolean compress,
+            @Value("${cache.redis.compression.threshold-bytes:1024}") final Integer compressionThreshold) {
+        this.format = CacheSerializationFormat.valueOf(format.toUpperCase());
+        this.compress = compress;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    // O formato faz parte do prefixo das chaves: trocar de formato não tenta ler valores gravados no formato anterior
+    public String keyPrefix(final String cacheName) {
+        return cacheName + "::" + format.name().toLowerCase() + "::";
+    }
+
+    public <T> RedisSerializer<T> of(final Class<T> type) {
+        return serializer(TypeFactory.defaultInstance().constructType(type));
+    }
+
+    public <T> RedisSerializer<List<T>> listOf(final Class<T> type) {
+        return serializer(TypeFactory.defaultInstance().constructCollectionType(List.class, type));
+    }
+
+    public <T> RedisSerializer<Page<T>> pageOf(final Class<T> type) {
+        return serializer(TypeFactory.defaultInstance().constructParametricType(Page.class, type));
+    }
+
+    private <T> RedisSerializer<T> serializer(final JavaType type) {
+        return new TypedRedisSerializer<>(format, type, compress, compressionThreshold);
+    }
+
+}
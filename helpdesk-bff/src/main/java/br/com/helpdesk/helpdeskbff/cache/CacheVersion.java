@@ -0,0 +1,31 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Versão de um conjunto de listagens, lida da origem (tb_change_version no order-service, change_versions no
+// user-service). Faz parte da chave de cada entrada em cache e da ETag, então qualquer escrita na origem, inclusive
+// as que não passam pelo BFF, muda as duas; as entradas antigas expiram pelo TTL
+public abstract class CacheVersion {
+
+    private final Supplier<ResponseEntity<Long>> origin;
+    private final String resource;
+
+    protected CacheVersion(final Supplier<ResponseEntity<Long>> origin, final String resource) {
+        this.origin = origin;
+        this.resource = resource;
+    }
+
+    // Lida uma vez por requisição e repassada ao serviço, para a ETag e a chave do cache serem da mesma versão
+    public Long current() {
+        return Objects.requireNonNull(origin.get().getBody(), "A origem não informou a versão de " + resource);
+    }
+
+    // Mesmo formato da ETag da origem. Fraca: a mesma versão pode gerar bytes diferentes, mas o conteúdo é equivalente
+    public String eTag(final Long version) {
+        return "W/\"" + resource + "-" + version + "\"";
+    }
+
+}
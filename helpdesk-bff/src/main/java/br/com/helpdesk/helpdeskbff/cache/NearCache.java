@@ -0,0 +1,133 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Cache em dois níveis: L1 local (Caffeine) na frente do L2 no Redis. Toda escrita passa pelo Redis e
+// publica uma invalidação para que as outras instâncias descartem a sua cópia local
+public class NearCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Consumer<String> invalidationPublisher;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public NearCache(
+            final Cache remote,
+            final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+            final Consumer<String> invalidationPublisher,
+            final MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final var localKey = localKey(key);
+        final var cached = local.getIfPresent(localKey);
+        if (nonNull(cached)) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        final var value = remote.get(key);
+        if (isNull(value)) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final var value = get(key);
+        if (isNull(value)) return null;
+
+        final var content = value.get();
+        if (nonNull(content) && nonNull(type) && !type.isInstance(content)) {
+            throw new IllegalStateException("Valor em cache não é do tipo " + type.getName() + ": " + content);
+        }
+        return (T) content;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final var cached = get(key);
+        if (nonNull(cached)) return (T) cached.get();
+
+        final var value = remote.get(key, valueLoader);
+        local.put(localKey(key), () -> value);
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), () -> value);
+        invalidationPublisher.accept(localKey(key));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    // Chamado ao receber a invalidação publicada por outra instância; chave nula limpa todo o L1
+    void invalidateLocal(final String key) {
+        if (isNull(key)) local.invalidateAll();
+        else local.invalidate(key);
+    }
+
+    private static String localKey(final Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(final MeterRegistry meterRegistry, final String tier, final String result) {
+        return Counter.builder("cache.near.gets")
+                .description("Consultas ao cache em dois níveis por nível e resultado")
+                .tag("cache", getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,102 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+// Envolve o RedisCacheManager: os caches listados em cache.near.names ganham um L1 local, os demais seguem só no Redis.
+// Tamanho e TTL do L1 podem ser definidos por cache em cache.near.<nome>.max-size e cache.near.<nome>.ttl
+@Log4j2
+public class NearCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "cache:near:invalidation";
+    private static final String SEPARATOR = "\n";
+
+    private final RedisCacheManager remote;
+    private final Set<String> nearCacheNames;
+    private final Environment environment;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(
+            final RedisCacheManager remote,
+            final Set<String> nearCacheNames,
+            final Environment environment,
+            final StringRedisTemplate redisTemplate,
+            final MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.nearCacheNames = nearCacheNames;
+        this.environment = environment;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        if (!nearCacheNames.contains(name)) return remote.getCache(name);
+
+        return nearCaches.computeIfAbsent(name, this::createNearCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    public Duration timeToLive(final String name) {
+        final var configuration = remote.getCacheConfigurations().get(name);
+        return isNull(configuration) ? Duration.ZERO : configuration.getTtl();
+    }
+
+    // Mensagem: instância de origem, nome do cache e chave (vazia para limpar o cache inteiro)
+    public void onInvalidation(final String message) {
+        final var parts = message.split(SEPARATOR, 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) return;
+
+        final var nearCache = nearCaches.get(parts[1]);
+        if (isNull(nearCache)) return;
+
+        nearCache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+    }
+
+    private NearCache createNearCache(final String name) {
+        final var maxSize = environment.getProperty("cache.near." + name + ".max-size", Long.class,
+                environment.getProperty("cache.near.max-size", Long.class, 1_000L));
+        final var ttl = environment.getProperty("cache.near." + name + ".ttl", Duration.class,
+                environment.getProperty("cache.near.ttl", Duration.class, Duration.ofMinutes(1)));
+
+        log.info("Cache {} com L1 local: max-size={}, ttl={}", name, maxSize, ttl);
+        return new NearCache(
+                remote.getCache(name),
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build(),
+                key -> publishInvalidation(name, key),
+                meterRegistry
+        );
+    }
+
+    private void publishInvalidation(final String name, final String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(SEPARATOR, instanceId, name, isNull(key) ? "" : key));
+        } catch (RuntimeException e) {
+            // O TTL do L1 limita por quanto tempo as outras instâncias podem servir o valor antigo
+            log.warn("Erro ao publicar invalidação do cache {}: {}", name, e.getMessage());
+        }
+    }
+
+}
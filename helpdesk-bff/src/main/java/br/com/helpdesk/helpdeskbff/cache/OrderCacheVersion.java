@@ -0,0 +1,14 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import br.com.helpdesk.helpdeskbff.client.OrderFeignClient;
+import org.springframework.stereotype.Component;
+
+// Versão da listagem completa e das páginas de ordens
+@Component
+public class OrderCacheVersion extends CacheVersion {
+
+    public OrderCacheVersion(final OrderFeignClient client) {
+        super(client::version, "orders");
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static java.lang.Boolean.TRUE;
+import static java.util.Objects.nonNull;
+
+// Lock distribuído por chave de cache (SET NX PX): entre todas as instâncias do BFF só uma carrega a chave na origem,
+// as demais aguardam o valor aparecer no Redis até o TTL do lock e, se ele não aparecer, carregam por conta própria
+@Log4j2
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+
+    public RedisCacheLoadLock(final StringRedisTemplate redisTemplate, final Duration lockTtl, final Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public Object withLock(final String cacheName, final String key, final Supplier<ValueWrapper> cached, final Supplier<Object> loader) {
+        final var lockKey = "lock::" + cacheName + "::" + key;
+        final var token = UUID.randomUUID().toString();
+
+        if (TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl))) {
+            try {
+                final var value = cached.get();
+                return nonNull(value) ? value.get() : loader.get();
+            } finally {
+                redisTemplate.execute(RELEASE, List.of(lockKey), token);
+            }
+        }
+
+        final var deadline = System.nanoTime() + lockTtl.toNanos();
+        while (System.nanoTime() < deadline) {
+            final var value = cached.get();
+            if (nonNull(value)) return value.get();
+            if (!sleep()) break;
+        }
+
+        log.debug("Lock da chave {} do cache {} não liberado a tempo, carregando sem lock", key, cacheName);
+        return loader.get();
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollInterval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Proteção contra stampede para os @Cacheable(sync = true):
+// - single-flight: requisições concorrentes pela mesma chave esperam uma única carga (opcionalmente coordenada
+//   entre instâncias por um lock no Redis)
+// - refresh antecipado probabilístico (XFetch): perto de expirar, um acerto pode disparar a recarga em background
+//   enquanto o valor atual continua sendo servido, então chaves quentes não chegam a expirar
+@Log4j2
+public class StampedeProtectedCache implements org.springframework.cache.Cache {
+
+    private final org.springframework.cache.Cache delegate;
+    private final Duration ttl;
+    private final double beta;
+    private final CacheLoadLock lock;
+    private final Executor refreshExecutor;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, LoadStats> loadStats;
+    private final Counter loads;
+    private final Counter refreshes;
+    private final Counter coalesced;
+
+    public StampedeProtectedCache(
+            final org.springframework.cache.Cache delegate,
+            final Duration ttl,
+            final double beta,
+            final CacheLoadLock lock,
+            final Executor refreshExecutor,
+            final Cache<String, LoadStats> loadStats,
+            final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.beta = beta;
+        this.lock = lock;
+        this.refreshExecutor = refreshExecutor;
+        this.loadStats = loadStats;
+        this.loads = counter(meterRegistry, "cache.stampede.loads", "Cargas na origem após um miss");
+        this.refreshes = counter(meterRegistry, "cache.stampede.refreshes", "Recargas antecipadas em background");
+        this.coalesced = counter(meterRegistry, "cache.stampede.coalesced", "Requisições que aguardaram uma carga já em andamento");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final var cached = delegate.get(key);
+        if (nonNull(cached)) {
+            if (shouldRefreshEarly(key)) refreshInBackground(key, valueLoader);
+            return (T) cached.get();
+        }
+
+        try {
+            return (T) singleFlight(key, valueLoader, false).join();
+        } catch (CompletionException e) {
+            throw unwrap(key, e);
+        }
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(final Object key) {
+        loadStats.invalidate(statsKey(key));
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        loadStats.invalidateAll();
+        delegate.clear();
+    }
+
+    // Só uma carga por chave nesta instância; as demais requisições recebem o mesmo future
+    private CompletableFuture<Object> singleFlight(final Object key, final Callable<?> valueLoader, final boolean refresh) {
+        final var statsKey = statsKey(key);
+        final var created = new CompletableFuture<Object>();
+        final var existing = inFlight.putIfAbsent(statsKey, created);
+        if (nonNull(existing)) {
+            if (!refresh) coalesced.increment();
+            return existing;
+        }
+
+        try {
+            created.complete(load(key, valueLoader, refresh));
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(statsKey, created);
+        }
+        return created;
+    }
+
+    // Na recarga antecipada o valor atual ainda está no cache, então não há o que reaproveitar antes de carregar
+    private Object load(final Object key, final Callable<?> valueLoader, final boolean refresh) {
+        final Supplier<ValueWrapper> cached = refresh ? () -> null : () -> delegate.get(key);
+        return lock.withLock(getName(), statsKey(key), cached, () -> {
+            final var start = System.nanoTime();
+            final Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            final var loadTime = Duration.ofNanos(System.nanoTime() - start);
+
+            delegate.put(key, value);
+            loadStats.put(statsKey(key), new LoadStats(loadTime.toMillis(), System.currentTimeMillis() + ttl.toMillis()));
+            (refresh ? refreshes : loads).increment();
+            return value;
+        });
+    }
+
+    // XFetch: a chance de recarregar cresce conforme a expiração se aproxima e com o tempo de carga da chave
+    private boolean shouldRefreshEarly(final Object key) {
+        if (beta <= 0 || ttl.isZero()) return false;
+
+        final var stats = loadStats.getIfPresent(statsKey(key));
+        if (isNull(stats)) return false;
+
+        final var gap = -stats.loadTimeMillis() * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= stats.expiresAtMillis();
+    }
+
+    private void refreshInBackground(final Object key, final Callable<?> valueLoader) {
+        if (inFlight.containsKey(statsKey(key))) return;
+
+        try {
+            refreshExecutor.execute(() -> singleFlight(key, valueLoader, true)
+                    .exceptionally(e -> {
+                        log.warn("Erro ao recarregar a chave {} do cache {}: {}", key, getName(), e.getMessage());
+                        return null;
+                    }));
+        } catch (RuntimeException e) {
+            log.debug("Recarga antecipada da chave {} descartada: {}", key, e.getMessage());
+        }
+    }
+
+    private RuntimeException unwrap(final Object key, final Throwable e) {
+        final var cause = e instanceof CompletionException && nonNull(e.getCause()) ? e.getCause() : e;
+        if (cause instanceof RuntimeException runtime) return runtime;
+        return new ValueRetrievalException(key, null, cause);
+    }
+
+    private static String statsKey(final Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(final MeterRegistry meterRegistry, final String name, final String description) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("cache", getName())
+                .register(meterRegistry);
+    }
+
+    public record LoadStats(long loadTimeMillis, long expiresAtMillis) {
+    }
+
+}
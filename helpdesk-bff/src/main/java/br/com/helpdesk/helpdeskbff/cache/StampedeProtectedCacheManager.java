@@ -0,0 +1,69 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private static final long LOAD_STATS_MAX_SIZE = 10_000;
+
+    private final CacheManager delegate;
+    private final Function<String, Duration> ttlResolver;
+    private final double beta;
+    private final CacheLoadLock lock;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, StampedeProtectedCache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(
+            final CacheManager delegate,
+            final Function<String, Duration> ttlResolver,
+            final double beta,
+            final CacheLoadLock lock,
+            final Executor refreshExecutor,
+            final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttlResolver = ttlResolver;
+        this.beta = beta;
+        this.lock = lock;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        final var cache = caches.get(name);
+        if (nonNull(cache)) return cache;
+
+        final var target = delegate.getCache(name);
+        if (isNull(target)) return null;
+
+        return caches.computeIfAbsent(name, key -> new StampedeProtectedCache(
+                target,
+                ttlResolver.apply(name),
+                beta,
+                lock,
+                refreshExecutor,
+                Caffeine.newBuilder().maximumSize(LOAD_STATS_MAX_SIZE).build(),
+                meterRegistry
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+}
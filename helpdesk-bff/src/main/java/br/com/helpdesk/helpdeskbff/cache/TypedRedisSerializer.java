@@ -0,0 +1,80 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.isNull;
+
+// Serializa um único tipo conhecido por cache, sem os metadados @class do GenericJackson2JsonRedisSerializer.
+// Com compressão ativa, valores acima do limite são gravados em GZIP; a leitura reconhece o formato pelo cabeçalho,
+// então valores antigos continuam legíveis depois de ligar ou desligar a compressão
+public class TypedRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final boolean compress;
+    private final int compressionThreshold;
+
+    public TypedRedisSerializer(
+            final CacheSerializationFormat format, final JavaType type, final boolean compress, final int compressionThreshold) {
+        this.writer = format.mapper().writerFor(type);
+        this.reader = format.mapper().readerFor(type);
+        this.compress = compress;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(final T value) {
+        if (isNull(value)) return new byte[0];
+
+        try {
+            final var bytes = writer.writeValueAsBytes(value);
+            return compress && bytes.length > compressionThreshold ? gzip(bytes) : bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Erro ao serializar valor do cache", e);
+        }
+    }
+
+    @Override
+    public T deserialize(final byte[] bytes) {
+        if (isNull(bytes) || bytes.length == 0) return null;
+
+        try {
+            if (isGzip(bytes)) {
+                try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                    return reader.readValue(in);
+                }
+            }
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Erro ao desserializar valor do cache", e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] bytes) throws IOException {
+        final var out = new ByteArrayOutputStream(bytes.length / 2);
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isGzip(final byte[] bytes) {
+        return bytes.length > 2
+                && (bytes[0] & 0xff) == GZIP_MAGIC_FIRST
+                && (bytes[1] & 0xff) == GZIP_MAGIC_SECOND;
+    }
+
+}
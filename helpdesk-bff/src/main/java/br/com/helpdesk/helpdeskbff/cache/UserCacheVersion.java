@@ -0,0 +1,14 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import br.com.helpdesk.helpdeskbff.client.UserFeignClient;
+import org.springframework.stereotype.Component;
+
+// Versão da listagem completa de usuários
+@Component
+public class UserCacheVersion extends CacheVersion {
+
+    public UserCacheVersion(final UserFeignClient client) {
+        super(client::version, "users");
+    }
+
+}
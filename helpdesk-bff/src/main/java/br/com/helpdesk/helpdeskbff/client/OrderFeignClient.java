@@ -1,15 +1,22 @@
 package br.com.helpdesk.helpdeskbff.client;
 
+import feign.Response;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import models.enums.OrderStatusEnum;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
 import models.responses.OrderResponse;
+import models.responses.OrderStatsResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -18,6 +25,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
 @FeignClient(
         name = "order-service-api",
         path = "/api/orders"
@@ -32,6 +41,15 @@ public interface OrderFeignClient {
             @RequestBody UpdateOrderRequest request
     );
 
+    @PatchMapping("/{id}")
+    ResponseEntity<Void> patch(
+            @PathVariable Long id,
+            @RequestBody UpdateOrderRequest request
+    );
+
+    @PatchMapping("/status")
+    ResponseEntity<UpdateOrdersStatusResponse> updateStatus(@RequestBody UpdateOrdersStatusRequest request);
+
     @GetMapping("/{id}")
     ResponseEntity<OrderResponse> findById(
             @NotNull(message = "O id da Ordem precisa ser informado")
@@ -47,6 +65,12 @@ public interface OrderFeignClient {
     @GetMapping
     ResponseEntity<List<OrderResponse>> findAll();
 
+    @GetMapping("/version")
+    ResponseEntity<Long> version();
+
+    @GetMapping(value = "/stream", produces = APPLICATION_NDJSON_VALUE)
+    Response streamAll();
+
     @GetMapping("/page")
     ResponseEntity<Page<OrderResponse>> findAllPaginated(
             @RequestParam(name = "page", defaultValue = "0") final Integer page,
@@ -54,4 +78,37 @@ public interface OrderFeignClient {
             @RequestParam(name = "direction", defaultValue = "ASC") final String direction,
             @RequestParam(name = "orderBy", defaultValue = "id") final String orderBy
     );
+
+    // Datas em ISO-8601 (LocalDateTime.toString), já validadas no controller do BFF
+    @GetMapping("/search")
+    ResponseEntity<ScrollResponse<OrderResponse>> search(
+            @RequestParam(name = "status", required = false) final OrderStatusEnum status,
+            @RequestParam(name = "customerId", required = false) final String customerId,
+            @RequestParam(name = "requesterId", required = false) final String requesterId,
+            @RequestParam(name = "createdFrom", required = false) final String createdFrom,
+            @RequestParam(name = "createdTo", required = false) final String createdTo,
+            @RequestParam(name = "closedFrom", required = false) final String closedFrom,
+            @RequestParam(name = "closedTo", required = false) final String closedTo,
+            @RequestParam(name = "continuationToken", required = false) final String continuationToken,
+            @RequestParam(name = "linesPerPage", defaultValue = "10") final Integer linesPerPage,
+            @RequestParam(name = "direction", defaultValue = "DESC") final String direction,
+            @RequestParam(name = "orderBy", defaultValue = "createdAt") final String orderBy
+    );
+
+    @GetMapping("/search/text")
+    ResponseEntity<List<OrderResponse>> searchText(
+            @RequestParam(name = "q") final String text,
+            @RequestParam(name = "limit", defaultValue = "20") final Integer limit
+    );
+
+    @GetMapping("/stats")
+    ResponseEntity<OrderStatsResponse> stats();
+
+    @GetMapping("/scroll")
+    ResponseEntity<ScrollResponse<OrderResponse>> findAllScroll(
+            @RequestParam(name = "continuationToken", required = false) final String continuationToken,
+            @RequestParam(name = "linesPerPage", defaultValue = "10") final Integer linesPerPage,
+            @RequestParam(name = "direction", defaultValue = "ASC") final String direction,
+            @RequestParam(name = "orderBy", defaultValue = "id") final String orderBy
+    );
 }
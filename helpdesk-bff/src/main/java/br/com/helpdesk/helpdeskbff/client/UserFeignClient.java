@@ -2,6 +2,7 @@ package br.com.helpdesk.helpdeskbff.client;
 
 import jakarta.validation.Valid;
 import models.requests.CreateUserRequest;
+import models.requests.FindUsersByIdsRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(
         name = "user-service-api",
@@ -23,12 +25,18 @@ public interface UserFeignClient {
     @GetMapping("/{id}")
     ResponseEntity<UserResponse> findById(@PathVariable(name = "id") final String id);
 
+    @PostMapping("/batch")
+    ResponseEntity<Map<String, UserResponse>> findAllById(@RequestBody final FindUsersByIdsRequest request);
+
     @PostMapping
     ResponseEntity<Void> save(@RequestBody final CreateUserRequest request);
 
     @GetMapping
     ResponseEntity<List<UserResponse>> findAll();
 
+    @GetMapping("/version")
+    ResponseEntity<Long> version();
+
     @PutMapping("/{id}")
     ResponseEntity<UserResponse> update(@PathVariable(name = "id") final String id, @Valid @RequestBody final UpdateUserRequest request);
 
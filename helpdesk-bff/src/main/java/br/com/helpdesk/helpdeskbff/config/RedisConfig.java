@@ -1,17 +1,52 @@
 package br.com.helpdesk.helpdeskbff.config;
 
+import br.com.helpdesk.helpdeskbff.cache.CacheLoadLock;
+import br.com.helpdesk.helpdeskbff.cache.CacheValueSerializers;
+import br.com.helpdesk.helpdeskbff.cache.NearCacheManager;
+import br.com.helpdesk.helpdeskbff.cache.RedisCacheLoadLock;
+import br.com.helpdesk.helpdeskbff.cache.StampedeProtectedCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import models.responses.OrderResponse;
+import models.responses.UserResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    public static final String ORDER_CACHE = "order";
+    public static final String ORDERS_LIST_CACHE = "orders:list";
+    public static final String ORDERS_PAGE_CACHE = "orders:page";
+    public static final String USER_CACHE = "user";
+    public static final String USERS_LIST_CACHE = "users:list";
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory redisConnectionFactory) {
         var template = new RedisTemplate<String, Object>();
@@ -21,4 +56,93 @@ public class RedisConfig {
         return template;
     }
 
+    @Bean
+    public RedisCacheManagerBuilderCustomizer ordersCacheCustomizer(
+            final CacheValueSerializers serializers,
+            @Value("${cache.orders.detail.ttl:PT30M}") final Duration detailTtl,
+            @Value("${cache.orders.list.ttl:PT10M}") final Duration listTtl,
+            @Value("${cache.orders.page.ttl:PT10M}") final Duration pageTtl) {
+        return builder -> builder
+                .withCacheConfiguration(ORDER_CACHE, cacheConfiguration(serializers, serializers.of(OrderResponse.class), detailTtl))
+                .withCacheConfiguration(ORDERS_LIST_CACHE, cacheConfiguration(serializers, serializers.listOf(OrderResponse.class), listTtl))
+                .withCacheConfiguration(ORDERS_PAGE_CACHE, cacheConfiguration(serializers, serializers.pageOf(OrderResponse.class), pageTtl));
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer usersCacheCustomizer(
+            final CacheValueSerializers serializers,
+            @Value("${cache.users.detail.ttl:PT30M}") final Duration detailTtl,
+            @Value("${cache.users.list.ttl:PT10M}") final Duration listTtl) {
+        return builder -> builder
+                .withCacheConfiguration(USER_CACHE, cacheConfiguration(serializers, serializers.of(UserResponse.class), detailTtl))
+                .withCacheConfiguration(USERS_LIST_CACHE, cacheConfiguration(serializers, serializers.listOf(UserResponse.class), listTtl));
+    }
+
+    private static RedisCacheConfiguration cacheConfiguration(
+            final CacheValueSerializers serializers, final RedisSerializer<?> serializer, final Duration ttl) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .computePrefixWith(serializers::keyPrefix)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .entryTtl(ttl);
+    }
+
+    // Substitui o RedisCacheManager da auto-configuração, mantendo os RedisCacheManagerBuilderCustomizer registrados
+    @Bean
+    public NearCacheManager nearCacheManager(
+            final RedisConnectionFactory redisConnectionFactory,
+            final ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+            final StringRedisTemplate stringRedisTemplate,
+            final MeterRegistry meterRegistry,
+            final Environment environment,
+            @Value("${cache.near.names:order,user}") final Set<String> nearCacheNames) {
+        var builder = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig());
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+        var redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new NearCacheManager(redisCacheManager, nearCacheNames, environment, stringRedisTemplate, meterRegistry);
+    }
+
+    // Cache manager usado pelos @Cacheable: proteção contra stampede na frente do near cache
+    @Bean
+    @Primary
+    public StampedeProtectedCacheManager cacheManager(
+            final NearCacheManager nearCacheManager,
+            final StringRedisTemplate stringRedisTemplate,
+            final MeterRegistry meterRegistry,
+            @Value("${cache.stampede.early-refresh.beta:1.0}") final Double beta,
+            @Value("${cache.stampede.refresh-pool-size:4}") final Integer refreshPoolSize,
+            @Value("${cache.stampede.redis-lock.enabled:false}") final Boolean redisLock,
+            @Value("${cache.stampede.redis-lock.ttl:PT5S}") final Duration lockTtl,
+            @Value("${cache.stampede.redis-lock.poll-interval:PT0.05S}") final Duration lockPollInterval) {
+        var threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+        // Recarga antecipada é só otimização: com a fila cheia a tarefa é descartada e a chave expira normalmente
+        var refreshExecutor = new ThreadPoolExecutor(
+                refreshPoolSize, refreshPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshPoolSize * 16),
+                threadFactory,
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+        var lock = redisLock ? new RedisCacheLoadLock(stringRedisTemplate, lockTtl, lockPollInterval) : CacheLoadLock.NONE;
+
+        return new StampedeProtectedCacheManager(
+                nearCacheManager, nearCacheManager::timeToLive, beta, lock, refreshExecutor, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListener(
+            final RedisConnectionFactory redisConnectionFactory,
+            final NearCacheManager nearCacheManager) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> nearCacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(NearCacheManager.INVALIDATION_CHANNEL)
+        );
+        return container;
+    }
+
 }
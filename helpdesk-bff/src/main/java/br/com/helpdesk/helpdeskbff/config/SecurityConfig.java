@@ -2,6 +2,9 @@ package br.com.helpdesk.helpdeskbff.config;
 
 import br.com.helpdesk.helpdeskbff.security.JWTAuthorizationFilter;
 import br.com.helpdesk.helpdeskbff.security.JWTUtil;
+import br.com.helpdesk.helpdeskbff.security.PublicRouteMatcher;
+import br.com.helpdesk.helpdeskbff.security.StandardErrorWriter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,15 +26,19 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authConfig;
     private final JWTUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
 
     public static final String[] SWAGGER_WHITELIST = {"/swagger-ui/index.html", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**", "/swagger-resources/**", "/webjars/**"};
     public static final String[] POST_WHITELIST = {"/api/auth/login", "/api/auth/refresh-token"};
     public static final String[] PUBLIC_ROUTES = {"/api/auth/login", "/api/auth/refresh-token", "/swagger-ui/index.html", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**", "/swagger-resources/**", "/webjars/**"};
 
+    private static final PublicRouteMatcher PUBLIC_ROUTE_MATCHER = PublicRouteMatcher.of(PUBLIC_ROUTES);
+    private static final StandardErrorWriter ERROR_WRITER = new StandardErrorWriter();
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
-                .addFilterBefore(new JWTAuthorizationFilter(authConfig.getAuthenticationManager(), jwtUtil, PUBLIC_ROUTES), JWTAuthorizationFilter.class)
+                .addFilterBefore(new JWTAuthorizationFilter(authConfig.getAuthenticationManager(), jwtUtil, PUBLIC_ROUTE_MATCHER, ERROR_WRITER, meterRegistry), JWTAuthorizationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
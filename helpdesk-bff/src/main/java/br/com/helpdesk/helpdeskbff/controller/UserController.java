@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import models.exceptions.StandardError;
 import models.requests.CreateUserRequest;
+import models.requests.FindUsersByIdsRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +21,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -40,6 +43,15 @@ public interface UserController {
             @Parameter(description = "User ID", required = true, example = "689f3d3b875e70383bf9a82f")
             @PathVariable(name = "id") final String id);
 
+    @Operation(summary = "Buscar vários usuários por ID em uma única consulta (sem a senha)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Usuários encontrados, indexados por ID. IDs inexistentes são omitidos"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PostMapping("/batch")
+    ResponseEntity<Map<String, UserResponse>> findAllById(@Valid @RequestBody final FindUsersByIdsRequest request);
+
     @Operation(summary = "Criar um novo usuário",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Usuário criado com sucesso"),
@@ -52,11 +64,12 @@ public interface UserController {
     @Operation(summary = "Lista de todos os usuários",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Usuários encontrados", content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = UserResponse.class)))),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde a ETag informada em If-None-Match"),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
             })
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
-    ResponseEntity<List<UserResponse>> findAll();
+    ResponseEntity<List<UserResponse>> findAll(@Parameter(hidden = true) final WebRequest webRequest);
 
     @Operation(summary = "Atualizar usuário",
             responses = {
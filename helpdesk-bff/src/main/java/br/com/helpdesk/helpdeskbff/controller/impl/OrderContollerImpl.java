@@ -1,24 +1,36 @@
 package br.com.helpdesk.helpdeskbff.controller.impl;
 
+import br.com.helpdesk.helpdeskbff.cache.OrderCacheVersion;
 import br.com.helpdesk.helpdeskbff.controller.OrderController;
 import br.com.helpdesk.helpdeskbff.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import models.enums.OrderStatusEnum;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
 import models.responses.OrderResponse;
+import models.responses.OrderStatsResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 @RestController
 @RequiredArgsConstructor
 public class OrderContollerImpl implements OrderController {
 
     private final OrderService service;
+    private final OrderCacheVersion orderCacheVersion;
 
     @Override
     public ResponseEntity<Void> save(CreatedOrderRequest request) {
@@ -31,6 +43,17 @@ public class OrderContollerImpl implements OrderController {
         return ResponseEntity.ok().body(service.update(id, request));
     }
 
+    @Override
+    public ResponseEntity<Void> patch(final Long id, UpdateOrderRequest request) {
+        service.patch(id, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<UpdateOrdersStatusResponse> updateStatus(UpdateOrdersStatusRequest request) {
+        return ResponseEntity.ok().body(service.updateStatus(request));
+    }
+
     @Override
     public ResponseEntity<OrderResponse> findById(Long id) {
         return ResponseEntity.ok().body(service.findById(id));
@@ -43,13 +66,62 @@ public class OrderContollerImpl implements OrderController {
     }
 
     @Override
-    public ResponseEntity<List<OrderResponse>> findAll() {
-        return ResponseEntity.ok().body(service.findAll());
+    public ResponseEntity<List<OrderResponse>> findAll(final WebRequest webRequest) {
+        // A ETag é a versão da origem que compõe a chave do cache, lida antes dele: um If-None-Match atual é
+        // respondido com 304 sem tocar no cache nem na listagem da origem
+        final var version = orderCacheVersion.current();
+        final var eTag = orderCacheVersion.eTag(version);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(service.findAll(version));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(service.streamAll());
+    }
+
+    @Override
+    public ResponseEntity<Page<OrderResponse>> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy, WebRequest webRequest) {
+        final var version = orderCacheVersion.current();
+        final var eTag = orderCacheVersion.eTag(version);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(service.findAllPaginated(version, page, linesPerPage, direction, orderBy));
+    }
+
+    @Override
+    public ResponseEntity<ScrollResponse<OrderResponse>> search(
+            OrderStatusEnum status, String customerId, String requesterId,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime closedFrom, LocalDateTime closedTo,
+            String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return ResponseEntity.ok().body(service.search(
+                status, customerId, requesterId, createdFrom, createdTo, closedFrom, closedTo,
+                continuationToken, linesPerPage, direction, orderBy
+        ));
+    }
+
+    @Override
+    public ResponseEntity<List<OrderResponse>> searchText(final String text, final Integer limit) {
+        return ResponseEntity.ok().body(service.searchText(text, limit));
+    }
+
+    @Override
+    public ResponseEntity<OrderStatsResponse> stats() {
+        return ResponseEntity.ok().body(service.stats());
     }
 
     @Override
-    public ResponseEntity<Page<OrderResponse>> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy) {
-        return ResponseEntity.ok().body(service.findAllPaginated(page, linesPerPage, direction, orderBy));
+    public ResponseEntity<ScrollResponse<OrderResponse>> findAllScroll(String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return ResponseEntity.ok().body(service.findAllScroll(continuationToken, linesPerPage, direction, orderBy));
     }
 
 }
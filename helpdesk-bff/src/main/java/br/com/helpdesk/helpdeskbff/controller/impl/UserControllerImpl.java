@@ -1,15 +1,20 @@
 package br.com.helpdesk.helpdeskbff.controller.impl;
 
+import br.com.helpdesk.helpdeskbff.cache.UserCacheVersion;
 import br.com.helpdesk.helpdeskbff.controller.UserController;
 import br.com.helpdesk.helpdeskbff.service.UserService;
 import lombok.RequiredArgsConstructor;
 import models.requests.CreateUserRequest;
+import models.requests.FindUsersByIdsRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
@@ -18,12 +23,18 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class UserControllerImpl implements UserController {
 
     private final UserService service;
+    private final UserCacheVersion userCacheVersion;
 
     @Override
     public ResponseEntity<UserResponse> findById(final String id) {
         return ResponseEntity.ok().body(service.findById(id));
     }
 
+    @Override
+    public ResponseEntity<Map<String, UserResponse>> findAllById(final FindUsersByIdsRequest request) {
+        return ResponseEntity.ok().body(service.findAllById(request));
+    }
+
     @Override
     public ResponseEntity<Void> save(final CreateUserRequest request) {
         service.save(request);
@@ -31,8 +42,15 @@ public class UserControllerImpl implements UserController {
     }
 
     @Override
-    public ResponseEntity<List<UserResponse>> findAll() {
-        return ResponseEntity.ok().body(service.findAll());
+    public ResponseEntity<List<UserResponse>> findAll(final WebRequest webRequest) {
+        final var version = userCacheVersion.current();
+        final var eTag = userCacheVersion.eTag(version);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(service.findAll(version));
     }
 
     @Override
@@ -0,0 +1,14 @@
+package br.com.helpdesk.helpdeskbff.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+// expiresAt é nulo quando o token não tem exp
+public record AuthenticatedToken(
+        String username,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt
+) {
+}
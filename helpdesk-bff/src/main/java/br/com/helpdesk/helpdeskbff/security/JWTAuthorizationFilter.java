@@ -1,27 +1,19 @@
 package br.com.helpdesk.helpdeskbff.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import models.exceptions.StandardError;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.List;
 
-import static java.time.LocalDateTime.now;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.http.HttpHeaders.AUTHORIZATION;
@@ -29,17 +21,28 @@ import static org.apache.http.HttpHeaders.AUTHORIZATION;
 public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
 
     private final JWTUtil jwtUtil;
-    private final String[] publicRoutes;
-
-    public JWTAuthorizationFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, String[] publicRoutes) {
+    private final PublicRouteMatcher publicRoutes;
+    private final StandardErrorWriter errorWriter;
+    private final Timer authenticationTimer;
+
+    public JWTAuthorizationFilter(
+            AuthenticationManager authenticationManager,
+            JWTUtil jwtUtil,
+            PublicRouteMatcher publicRoutes,
+            StandardErrorWriter errorWriter,
+            MeterRegistry meterRegistry) {
         super(authenticationManager);
         this.jwtUtil = jwtUtil;
         this.publicRoutes = publicRoutes;
+        this.errorWriter = errorWriter;
+        this.authenticationTimer = Timer.builder("bff.auth.authentication")
+                .description("Tempo gasto autenticando o token JWT de cada requisição")
+                .register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
-        if(isPublicRoute(request.getRequestURI())) {
+        if(publicRoutes.matches(request.getRequestURI())) {
             chain.doFilter(request, response);
             return;
         }
@@ -52,7 +55,7 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
 
         if (authHeader.startsWith("Bearer ")) {
             try {
-                UsernamePasswordAuthenticationToken auth = getAuthentication(request);
+                UsernamePasswordAuthenticationToken auth = authenticationTimer.record(() -> getAuthentication(request));
                 if (auth != null) SecurityContextHolder.getContext().setAuthentication(auth);
             } catch (Exception e) {
                 handleException(request.getRequestURI(), e.getMessage(), response);
@@ -64,38 +67,16 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
     }
 
     private void handleException(String requestURI, String message, HttpServletResponse response) throws IOException {
-        StandardError error = StandardError.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
-                .message(message)
-                .path(requestURI)
-                .build();
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        String json = mapper.writeValueAsString(error);
-
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getWriter().write(json);
-    }
-
-    private boolean isPublicRoute(String uri) {
-        for(String route : this.publicRoutes) {
-            if(uri.startsWith(route)) return true;
-        }
-        return false;
+        errorWriter.write(response, HttpStatus.UNAUTHORIZED, message, requestURI);
     }
 
     private UsernamePasswordAuthenticationToken getAuthentication(HttpServletRequest request) {
         final String token = request.getHeader(AUTHORIZATION).substring(7);
 
-        String username = jwtUtil.getUsername(token);
-        Claims claims = jwtUtil.getClaims(token);
-        List<GrantedAuthority> authorities = jwtUtil.getAuthorities(claims);
+        AuthenticatedToken authenticated = jwtUtil.authenticate(token);
 
-        return username != null ? new UsernamePasswordAuthenticationToken(username, null, authorities) : null;
+        return authenticated.username() != null
+                ? new UsernamePasswordAuthenticationToken(authenticated.username(), null, authenticated.authorities())
+                : null;
     }
 }
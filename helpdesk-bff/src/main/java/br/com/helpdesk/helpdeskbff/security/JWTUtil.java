@@ -2,11 +2,15 @@ package br.com.helpdesk.helpdeskbff.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
 import models.exceptions.JWTCustomException;
+import models.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 
@@ -15,16 +19,37 @@ import static java.util.Objects.nonNull;
 @Component
 public class JWTUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtParser parser;
+
+    // Tokens já verificados, válidos até o exp
+    private final VerifiedTokenCache<AuthenticatedToken> verifiedTokens;
+
+    public JWTUtil(
+            final MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") final String secret,
+            @Value("${jwt.cache.max-size:10000}") final Long maxSize,
+            @Value("${jwt.cache.max-ttl:PT15M}") final Duration maxTtl) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secret.getBytes())
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache<>(
+                meterRegistry, "jwt.verified-tokens", maxSize, maxTtl, AuthenticatedToken::expiresAt);
+    }
+
+    public AuthenticatedToken authenticate(final String token) {
+        return verifiedTokens.get(token, value -> {
+            final var claims = getClaims(value);
+            return new AuthenticatedToken(
+                    claims.getSubject(),
+                    getAuthorities(claims),
+                    nonNull(claims.getExpiration()) ? claims.getExpiration().toInstant() : null
+            );
+        });
+    }
 
     public Claims getClaims(final String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secret.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException | SignatureException | IllegalArgumentException ex) {
             throw new JWTCustomException(ex.getMessage());
         }
@@ -40,7 +65,7 @@ public class JWTUtil {
             var authorities = (List<LinkedHashMap<String, String>>) claims.get("authorities");
 
             return authorities.stream()
-                    .map(authority -> (GrantedAuthority) () -> authority.get("authority"))
+                    .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.get("authority")))
                     .toList();
         }
         throw new JWTCustomException("Invalid token");
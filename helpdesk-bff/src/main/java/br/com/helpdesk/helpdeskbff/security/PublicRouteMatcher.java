@@ -0,0 +1,86 @@
+package br.com.helpdesk.helpdeskbff.security;
+
+import java.util.Arrays;
+
+// Árvore de prefixos por segmento de caminho, montada uma única vez a partir das rotas públicas do SecurityConfig.
+// Rotas terminadas em "/**" liberam o próprio caminho e tudo abaixo dele; as demais precisam ser exatas.
+// A busca percorre a URI comparando regiões da própria String, sem criar substrings
+public final class PublicRouteMatcher {
+
+    private static final String WILDCARD = "**";
+
+    private final Node root = new Node();
+
+    private PublicRouteMatcher() {
+    }
+
+    public static PublicRouteMatcher of(final String... routes) {
+        final var matcher = new PublicRouteMatcher();
+        for (final var route : routes) {
+            matcher.add(route);
+        }
+        return matcher;
+    }
+
+    public boolean matches(final String uri) {
+        if (uri.isEmpty() || uri.charAt(0) != '/') return false;
+
+        var node = root;
+        var start = 1;
+        final var length = uri.length();
+
+        while (start <= length) {
+            if (node.wildcard) return true;
+
+            var end = uri.indexOf('/', start);
+            if (end < 0) end = length;
+
+            node = node.child(uri, start, end - start);
+            if (node == null) return false;
+
+            start = end + 1;
+        }
+        return node.terminal || node.wildcard;
+    }
+
+    private void add(final String route) {
+        var node = root;
+        for (final var segment : route.substring(1).split("/")) {
+            if (WILDCARD.equals(segment)) {
+                node.wildcard = true;
+                return;
+            }
+            node = node.addChild(segment);
+        }
+        node.terminal = true;
+    }
+
+    private static final class Node {
+
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+        private boolean wildcard;
+
+        private Node child(final String uri, final int offset, final int length) {
+            for (int i = 0; i < segments.length; i++) {
+                final var segment = segments[i];
+                if (segment.length() == length && uri.regionMatches(offset, segment, 0, length)) return children[i];
+            }
+            return null;
+        }
+
+        private Node addChild(final String segment) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) return children[i];
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+
+    }
+
+}
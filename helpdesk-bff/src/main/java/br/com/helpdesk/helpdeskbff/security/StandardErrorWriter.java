@@ -0,0 +1,42 @@
+package br.com.helpdesk.helpdeskbff.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletResponse;
+import models.exceptions.StandardError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+// Writer configurado uma única vez e compartilhado: ObjectWriter é imutável e thread-safe
+public class StandardErrorWriter {
+
+    private final ObjectWriter writer;
+
+    public StandardErrorWriter() {
+        this.writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerFor(StandardError.class);
+    }
+
+    public void write(final HttpServletResponse response, final HttpStatus status, final String message, final String path) throws IOException {
+        StandardError error = StandardError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(path)
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        writer.writeValue(response.getOutputStream(), error);
+    }
+
+}
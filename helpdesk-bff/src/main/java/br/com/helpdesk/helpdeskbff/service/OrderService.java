@@ -1,51 +1,134 @@
 package br.com.helpdesk.helpdeskbff.service;
 
 import br.com.helpdesk.helpdeskbff.client.OrderFeignClient;
+import feign.codec.ErrorDecoder;
 import lombok.RequiredArgsConstructor;
+import models.enums.OrderStatusEnum;
+import models.exceptions.InternalServerErrorException;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
 import models.responses.OrderResponse;
+import models.responses.OrderStatsResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+
+import static br.com.helpdesk.helpdeskbff.config.RedisConfig.ORDERS_LIST_CACHE;
+import static br.com.helpdesk.helpdeskbff.config.RedisConfig.ORDERS_PAGE_CACHE;
+import static br.com.helpdesk.helpdeskbff.config.RedisConfig.ORDER_CACHE;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderFeignClient client;
+    private final CacheManager cacheManager;
+    private final ErrorDecoder errorDecoder;
 
-    @CacheEvict(value = "orders", allEntries = true)
+    // Uma nova ordem não altera nenhum detalhe em cache; a listagem e as páginas mudam de chave com a versão da origem
     public void save(CreatedOrderRequest request) {
         client.save(request);
     }
 
-    @CacheEvict(value = "orders", allEntries = true)
+    @CachePut(value = ORDER_CACHE, key = "#id", unless = "#result == null")
     public OrderResponse update(Long id, UpdateOrderRequest request) {
         return client.update(id, request).getBody();
     }
 
-    @Cacheable(value = "orders", key = "#id")
+    // O PATCH não devolve a ordem, então o detalhe em cache é descartado em vez de substituído
+    @CacheEvict(value = ORDER_CACHE, key = "#id")
+    public void patch(Long id, UpdateOrderRequest request) {
+        client.patch(id, request);
+    }
+
+    public UpdateOrdersStatusResponse updateStatus(UpdateOrdersStatusRequest request) {
+        final var response = client.updateStatus(request).getBody();
+        final var cache = cacheManager.getCache(ORDER_CACHE);
+        if (Objects.nonNull(response) && Objects.nonNull(cache)) response.updatedIds().forEach(cache::evict);
+        return response;
+    }
+
+    @Cacheable(value = ORDER_CACHE, key = "#id", sync = true)
     public OrderResponse findById(Long id) {
         return client.findById(id).getBody();
     }
 
-    @CacheEvict(value = "orders", allEntries = true)
+    @CacheEvict(value = ORDER_CACHE, key = "#id")
     public void deleteById(Long id) {
         client.deleteById(id);
     }
 
-    @Cacheable(value = "orders")
-    public List<OrderResponse> findAll() {
+    // version vem da origem (OrderCacheVersion). O prefixo "v" separa estas chaves das do antigo contador no Redis
+    @Cacheable(value = ORDERS_LIST_CACHE, key = "'v' + #version + ':all'", sync = true)
+    public List<OrderResponse> findAll(Long version) {
         return client.findAll().getBody();
     }
 
-    @Cacheable(value = "orders")
-    public Page<OrderResponse> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy) {
+    // Com feign.Response como retorno o ErrorDecoder não é aplicado: o status é conferido aqui, antes de o 200 do
+    // streaming ser enviado, para um erro da origem chegar ao cliente com o status dela e não como corpo NDJSON
+    public StreamingResponseBody streamAll() {
+        final var response = client.streamAll();
+        if (response.status() / 100 != 2 || Objects.isNull(response.body())) {
+            try (response) {
+                final var error = errorDecoder.decode("OrderFeignClient#streamAll()", response);
+                throw error instanceof RuntimeException runtime
+                        ? runtime
+                        : new InternalServerErrorException("Internal server error. Try again later.");
+            }
+        }
+
+        return out -> {
+            try (response; var body = response.body().asInputStream()) {
+                body.transferTo(out);
+            }
+        };
+    }
+
+    @Cacheable(
+            value = ORDERS_PAGE_CACHE,
+            key = "'v' + #version + ':' + #page + ':' + #linesPerPage + ':' + #direction + ':' + #orderBy",
+            sync = true
+    )
+    public Page<OrderResponse> findAllPaginated(Long version, Integer page, Integer linesPerPage, String direction, String orderBy) {
         return client.findAllPaginated(page, linesPerPage, direction, orderBy).getBody();
     }
 
+    // Sem cache: a combinação de filtros é livre e a consulta já é servida por índices no order-service
+    public ScrollResponse<OrderResponse> search(
+            OrderStatusEnum status, String customerId, String requesterId,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime closedFrom, LocalDateTime closedTo,
+            String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return client.search(
+                status, customerId, requesterId,
+                Objects.toString(createdFrom, null), Objects.toString(createdTo, null),
+                Objects.toString(closedFrom, null), Objects.toString(closedTo, null),
+                continuationToken, linesPerPage, direction, orderBy
+        ).getBody();
+    }
+
+    // Sem cache: o texto pesquisado varia demais para as chaves serem reaproveitadas
+    public List<OrderResponse> searchText(String text, Integer limit) {
+        return client.searchText(text, limit).getBody();
+    }
+
+    // O order-service já responde com um snapshot em memória, então não há o que ganhar com cache aqui
+    public OrderStatsResponse stats() {
+        return client.stats().getBody();
+    }
+
+    public ScrollResponse<OrderResponse> findAllScroll(String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return client.findAllScroll(continuationToken, linesPerPage, direction, orderBy).getBody();
+    }
+
 }
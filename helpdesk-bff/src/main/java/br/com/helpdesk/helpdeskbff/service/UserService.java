@@ -3,6 +3,7 @@ package br.com.helpdesk.helpdeskbff.service;
 import br.com.helpdesk.helpdeskbff.client.UserFeignClient;
 import lombok.RequiredArgsConstructor;
 import models.requests.CreateUserRequest;
+import models.requests.FindUsersByIdsRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
 import org.springframework.cache.annotation.CacheEvict;
@@ -10,6 +11,10 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+
+import static br.com.helpdesk.helpdeskbff.config.RedisConfig.USERS_LIST_CACHE;
+import static br.com.helpdesk.helpdeskbff.config.RedisConfig.USER_CACHE;
 
 @Service
 @RequiredArgsConstructor
@@ -17,22 +22,26 @@ public class UserService {
 
     private final UserFeignClient client;
 
-    @Cacheable(value = "users", key = "#id")
+    @Cacheable(value = USER_CACHE, key = "#id", sync = true)
     public UserResponse findById(final String id) {
         return client.findById(id).getBody();
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    public Map<String, UserResponse> findAllById(final FindUsersByIdsRequest request) {
+        return client.findAllById(request).getBody();
+    }
+
     public void save(CreateUserRequest request) {
         client.save(request);
     }
 
-    @Cacheable(value = "users")
-    public List<UserResponse> findAll() {
+    // version vem da origem (UserCacheVersion). O prefixo "v" separa estas chaves das do antigo contador no Redis
+    @Cacheable(value = USERS_LIST_CACHE, key = "'v' + #version + ':all'", sync = true)
+    public List<UserResponse> findAll(Long version) {
         return client.findAll().getBody();
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = USER_CACHE, key = "#id")
     public UserResponse update(final String id, final UpdateUserRequest request) {
         return client.update(id, request).getBody();
     }
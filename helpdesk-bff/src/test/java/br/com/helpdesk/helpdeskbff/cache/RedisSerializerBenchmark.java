@@ -0,0 +1,79 @@
+package br.com.helpdesk.helpdeskbff.cache;
+
+import models.fixtures.BenchmarkFixtures;
+import models.responses.OrderResponse;
+import models.responses.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+// Compara o tamanho gravado no Redis (registrado no log do setup) e o tempo de decodificação do serializador anterior
+// dos caches (jdk) com os serializadores tipados. O GenericJackson2JsonRedisSerializer fica de fora porque
+// não consegue ler de volta PageImpl nem listas na raiz
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    // Sem Lombok no processamento de anotações dos testes
+    private static final Logger log = LoggerFactory.getLogger(RedisSerializerBenchmark.class);
+
+    @Param({"orders-page", "users-list"})
+    private String payload;
+
+    @Param({"jdk", "json", "smile", "smile-gzip"})
+    private String serializer;
+
+    private RedisSerializer<Object> redisSerializer;
+    private byte[] bytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final var serializers = new CacheValueSerializers(
+                serializer.startsWith("smile") ? "smile" : "json", serializer.endsWith("gzip"), 1024);
+
+        final Object value;
+        final RedisSerializer<?> typed;
+        if ("orders-page".equals(payload)) {
+            value = new PageImpl<>(BenchmarkFixtures.orders(20), PageRequest.of(0, 20, Sort.by("id")), 500);
+            typed = serializers.pageOf(OrderResponse.class);
+        } else {
+            value = BenchmarkFixtures.users(50);
+            typed = serializers.listOf(UserResponse.class);
+        }
+
+        redisSerializer = (RedisSerializer<Object>) switch (serializer) {
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            default -> typed;
+        };
+        bytes = redisSerializer.serialize(value);
+        log.info("{}/{}: {} bytes", payload, serializer, bytes.length);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return redisSerializer.deserialize(bytes);
+    }
+
+}
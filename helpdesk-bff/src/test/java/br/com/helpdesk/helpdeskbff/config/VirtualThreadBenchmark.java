@@ -0,0 +1,91 @@
+package br.com.helpdesk.helpdeskbff.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Rajada de requisições concorrentes em que cada uma faz uma chamada bloqueante (Feign/JDBC simulados com sleep):
+// - platform: pool fixo do tamanho padrão do Tomcat (200 threads)
+// - virtual: uma virtual thread por requisição, como em threads.virtual.enabled=true
+// - virtual-pinned: idem, mas bloqueando dentro de synchronized, o que prende a carrier thread no Java 21
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    private String mode;
+
+    @Param({"200", "1000", "5000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = "platform".equals(mode)
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // Tempo para atender a rajada inteira
+    @Benchmark
+    public int burst() throws ExecutionException, InterruptedException {
+        final var pinned = "virtual-pinned".equals(mode);
+        final var futures = new ArrayList<Future<Integer>>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final var request = i;
+            futures.add(executor.submit(() -> pinned ? blockingCallPinned(request) : blockingCall(request)));
+        }
+
+        var sum = 0;
+        for (final var future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private int blockingCall(final int request) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        return request;
+    }
+
+    private int blockingCallPinned(final int request) throws InterruptedException {
+        final var monitor = new Object();
+        synchronized (monitor) {
+            Thread.sleep(latencyMillis);
+        }
+        return request;
+    }
+
+}
@@ -0,0 +1,99 @@
+package br.com.helpdesk.helpdeskbff.security;
+
+import br.com.helpdesk.helpdeskbff.config.SecurityConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS512;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
+
+// Caminho quente do filtro: token válido (já verificado e em cache), rota pública e requisição sem token (401)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTAuthorizationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"authenticated", "public", "unauthenticated"})
+    private String scenario;
+
+    private JWTAuthorizationFilter filter;
+    private String uri;
+    private String authorization;
+
+    @Setup
+    public void setup() throws ServletException, IOException {
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var jwtUtil = new JWTUtil(meterRegistry, SECRET, 10_000L, Duration.ofMinutes(15));
+        filter = new JWTAuthorizationFilter(
+                authentication -> authentication,
+                jwtUtil,
+                PublicRouteMatcher.of(SecurityConfig.PUBLIC_ROUTES),
+                new StandardErrorWriter(),
+                meterRegistry
+        );
+
+        final var token = Jwts.builder()
+                .claim("authorities", List.of(Map.of("authority", "ROLE_ADMIN")))
+                .setSubject("admin@mail.com")
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), HS512)
+                .compact();
+
+        switch (scenario) {
+            case "authenticated" -> {
+                uri = "/api/orders/1";
+                authorization = "Bearer " + token;
+            }
+            case "public" -> uri = "/v3/api-docs/swagger-config";
+            default -> uri = "/api/orders/1";
+        }
+
+        final var expectedStatus = "unauthenticated".equals(scenario) ? 401 : 200;
+        if (doFilter().getStatus() != expectedStatus) {
+            throw new IllegalStateException("Status inesperado para o cenário " + scenario);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws ServletException, IOException {
+        final var request = new MockHttpServletRequest("GET", uri);
+        if (authorization != null) request.addHeader(AUTHORIZATION, authorization);
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+}
@@ -0,0 +1,78 @@
+package br.com.helpdesk.helpdeskbff.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicRouteMatcherTest {
+
+    private final PublicRouteMatcher matcher = PublicRouteMatcher.of(
+            "/api/auth/login", "/api/auth/refresh-token", "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**");
+
+    @Test
+    void exactRoutesMatchOnlyThemselves() {
+        assertTrue(matcher.matches("/api/auth/login"));
+        assertTrue(matcher.matches("/api/auth/refresh-token"));
+        assertTrue(matcher.matches("/swagger-ui.html"));
+
+        assertFalse(matcher.matches("/api/auth"));
+        assertFalse(matcher.matches("/api/auth/login/extra"));
+        assertFalse(matcher.matches("/api/auth/loginx"));
+        assertFalse(matcher.matches("/api/auth/logi"));
+        assertFalse(matcher.matches("/api/orders"));
+    }
+
+    @Test
+    void wildcardRoutesMatchThePrefixAndEverythingBelow() {
+        assertTrue(matcher.matches("/swagger-ui"));
+        assertTrue(matcher.matches("/swagger-ui/index.html"));
+        assertTrue(matcher.matches("/v3/api-docs"));
+        assertTrue(matcher.matches("/v3/api-docs/swagger-config"));
+        assertTrue(matcher.matches("/v3/api-docs/a/b/c"));
+
+        // O prefixo é comparado por segmento inteiro, não por início de texto
+        assertFalse(matcher.matches("/swagger-uix"));
+        assertFalse(matcher.matches("/v3/api-docsx/swagger-config"));
+        assertFalse(matcher.matches("/v3"));
+    }
+
+    // Mesmo comportamento do Spring Security 6, que não casa mais a barra final com a rota sem ela
+    @Test
+    void trailingSlashOnlyMatchesWildcardRoutes() {
+        assertTrue(matcher.matches("/swagger-ui/"));
+        assertTrue(matcher.matches("/v3/api-docs/"));
+
+        assertFalse(matcher.matches("/api/auth/login/"));
+        assertFalse(matcher.matches("/swagger-ui.html/"));
+    }
+
+    @Test
+    void rejectsUrisThatAreNotAbsolutePaths() {
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches("/"));
+        assertFalse(matcher.matches("api/auth/login"));
+        assertFalse(matcher.matches("//api/auth/login"));
+        assertFalse(matcher.matches("/api//auth/login"));
+    }
+
+    @Test
+    void rootWildcardMatchesEverything() {
+        final var all = PublicRouteMatcher.of("/**");
+
+        assertTrue(all.matches("/"));
+        assertTrue(all.matches("/api/orders/1"));
+        assertFalse(all.matches(""));
+    }
+
+    @Test
+    void exactAndWildcardRoutesCanShareAPrefix() {
+        final var shared = PublicRouteMatcher.of("/docs/index.html", "/docs/public/**");
+
+        assertTrue(shared.matches("/docs/index.html"));
+        assertTrue(shared.matches("/docs/public/guide"));
+        assertFalse(shared.matches("/docs"));
+        assertFalse(shared.matches("/docs/private"));
+    }
+
+}
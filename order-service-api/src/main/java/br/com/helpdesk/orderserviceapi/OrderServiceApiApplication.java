@@ -1,9 +1,15 @@
 package br.com.helpdesk.orderserviceapi;
 
+import models.threads.VirtualThreadConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+// Virtual threads opcionais: requisições e StreamingResponseBody esperam o MySQL (JDBC) e o Feign
+@Import(VirtualThreadConfig.class)
+@EnableScheduling
 @EnableFeignClients
 @SpringBootApplication
 public class OrderServiceApiApplication {
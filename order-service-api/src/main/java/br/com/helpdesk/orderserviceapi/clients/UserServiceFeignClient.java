@@ -1,10 +1,15 @@
 package br.com.helpdesk.orderserviceapi.clients;
 
+import models.requests.FindUsersByIdsRequest;
 import models.responses.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Map;
 
 @FeignClient(
         name = "user-service-api",
@@ -15,4 +20,7 @@ public interface UserServiceFeignClient {
     @GetMapping("/{id}")
     ResponseEntity<UserResponse> findById(@PathVariable final String id);
 
+    @PostMapping("/batch")
+    ResponseEntity<Map<String, UserResponse>> findAllById(@RequestBody final FindUsersByIdsRequest request);
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package br.com.helpdesk.orderserviceapi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.users.max-size:10000}") final Long maxSize,
+            @Value("${cache.users.ttl:PT5M}") final Duration ttl) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+        );
+        cacheManager.setCacheNames(List.of(USERS_CACHE));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+}
@@ -0,0 +1,39 @@
+package br.com.helpdesk.orderserviceapi.config;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import br.com.helpdesk.orderserviceapi.entities.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// tb_order e tb_order_outbox usavam IDENTITY: as tabelas das sequências precisam começar depois do maior id já
+// gravado. A margem de um bloco cobre o otimizador pooled, que entrega os ids abaixo do valor lido da tabela.
+// Roda antes do Tomcat aceitar requisições e depois do Hibernate criar as tabelas
+@Log4j2
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        align(Order.ID_SEQUENCE, "tb_order", Order.ID_ALLOCATION_SIZE);
+        align(OutboxMessage.ID_SEQUENCE, "tb_order_outbox", OutboxMessage.ID_ALLOCATION_SIZE);
+    }
+
+    // GREATEST mantém o valor só crescendo, então várias instâncias subindo juntas não se atrapalham
+    private void align(final String sequence, final String table, final int allocationSize) {
+        jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM " + sequence + ")");
+        jdbcTemplate.update(
+                "UPDATE " + sequence + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? FROM " + table + "))",
+                allocationSize + 1
+        );
+        log.info("Sequência {} alinhada ao maior id de {}", sequence, table);
+    }
+
+}
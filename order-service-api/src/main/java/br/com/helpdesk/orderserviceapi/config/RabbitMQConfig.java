@@ -0,0 +1,20 @@
+package br.com.helpdesk.orderserviceapi.config;
+
+import models.messaging.CodecMessageConverter;
+import models.messaging.MessageCodecs;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Bean
+    public MessageConverter messageConverter(@Value("${messaging.codec:json}") final String codec) {
+        // Mensagens em texto (ex.: rk.users.update) continuam com o SimpleMessageConverter
+        return new CodecMessageConverter(MessageCodecs.forName(codec), MessageCodecs.all(), new SimpleMessageConverter());
+    }
+
+}
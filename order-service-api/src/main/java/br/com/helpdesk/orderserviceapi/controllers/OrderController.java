@@ -2,35 +2,52 @@ package br.com.helpdesk.orderserviceapi.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import models.enums.OrderStatusEnum;
 import models.exceptions.StandardError;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
+import models.responses.BulkImportResponse;
 import models.responses.OrderResponse;
+import models.responses.OrderStatsResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag(name = "OrderController", description = "Controller responsible for orders operations")
 @RequestMapping("/api/orders")
 public interface OrderController {
 
+    String TEXT_CSV_VALUE = "text/csv";
+
     @Operation(summary = "Criar uma ordem nova",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Ordem criada com sucesso"),
@@ -57,6 +74,31 @@ public interface OrderController {
             @Valid @RequestBody UpdateOrderRequest request
     );
 
+    @Operation(summary = "Atualizar só os campos informados de uma ordem, sem regravar os demais",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Ordem atualizada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PatchMapping("/{id}")
+    ResponseEntity<Void> patch(
+            @Parameter(description = "Order id", required = true, example = "10")
+            @PathVariable Long id,
+
+            @Parameter(description = "Campos a atualizar; os ausentes ficam como estão", required = true)
+            @Valid @RequestBody UpdateOrderRequest request
+    );
+
+    @Operation(summary = "Alterar o status de várias ordens de uma vez (ex.: fechar ou cancelar em lote)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status alterado nas ordens listadas em updatedIds"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PatchMapping("/status")
+    ResponseEntity<UpdateOrdersStatusResponse> updateStatus(@Valid @RequestBody UpdateOrdersStatusRequest request);
+
     @Operation(summary = "Buscar uma ordem por ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Ordem encontrada com sucesso"),
@@ -88,14 +130,32 @@ public interface OrderController {
     @Operation(summary = "Listar todas as Ordens de Serviço",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Ordens encontradas"),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde a ETag informada em If-None-Match"),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
             })
     @GetMapping
-    ResponseEntity<List<OrderResponse>> findAll();
+    ResponseEntity<List<OrderResponse>> findAll(@Parameter(hidden = true) final WebRequest webRequest);
+
+    @Operation(summary = "Versão atual das Ordens de Serviço, a mesma usada nas ETags das listagens",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Versão atual"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping("/version")
+    ResponseEntity<Long> version();
+
+    @Operation(summary = "Exportar todas as Ordens de Serviço em NDJSON, sem carregar a tabela em memória",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Ordens exportadas, uma por linha", content = @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrderResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping(value = "/stream", produces = APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAll();
 
     @Operation(summary = "Listar todas as Ordens de Serviço paginada",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Ordens encontradas"),
+                    @ApiResponse(responseCode = "304", description = "Nenhuma alteração desde a ETag informada em If-None-Match"),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
             })
     @GetMapping("/page")
@@ -110,6 +170,140 @@ public interface OrderController {
             @RequestParam(name = "direction", defaultValue = "ASC") final String direction,
 
             @Parameter(description = "Ordenar por atributo", example = "id", required = true)
+            @RequestParam(name = "orderBy", defaultValue = "id") final String orderBy,
+
+            @Parameter(hidden = true) final WebRequest webRequest
+    );
+
+    @Operation(summary = "Pesquisar Ordens de Serviço por status, cliente, solicitante e períodos, por cursor (keyset)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Ordens encontradas"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping("/search")
+    ResponseEntity<ScrollResponse<OrderResponse>> search(
+            @Parameter(description = "Status da ordem", example = "OPEN")
+            @RequestParam(name = "status", required = false) final OrderStatusEnum status,
+
+            @Parameter(description = "ID do cliente")
+            @RequestParam(name = "customerId", required = false) final String customerId,
+
+            @Parameter(description = "ID do solicitante (técnico)")
+            @RequestParam(name = "requesterId", required = false) final String requesterId,
+
+            @Parameter(description = "Criadas a partir de (inclusive)", example = "2024-01-01T00:00:00")
+            @RequestParam(name = "createdFrom", required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime createdFrom,
+
+            @Parameter(description = "Criadas antes de (exclusive)", example = "2024-02-01T00:00:00")
+            @RequestParam(name = "createdTo", required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime createdTo,
+
+            @Parameter(description = "Fechadas a partir de (inclusive)", example = "2024-01-01T00:00:00")
+            @RequestParam(name = "closedFrom", required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime closedFrom,
+
+            @Parameter(description = "Fechadas antes de (exclusive)", example = "2024-02-01T00:00:00")
+            @RequestParam(name = "closedTo", required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime closedTo,
+
+            @Parameter(description = "Token de continuação retornado pela página anterior (enviar junto os mesmos filtros)")
+            @RequestParam(name = "continuationToken", required = false) final String continuationToken,
+
+            @Parameter(description = "Linhas por página", example = "10", required = true)
+            @RequestParam(name = "linesPerPage", defaultValue = "10") final Integer linesPerPage,
+
+            @Parameter(description = "Ordenação (ignorada quando há token)", example = "DESC", required = true)
+            @RequestParam(name = "direction", defaultValue = "DESC") final String direction,
+
+            @Parameter(description = "Ordenar por atributo (ignorado quando há token)", example = "createdAt", required = true)
+            @RequestParam(name = "orderBy", defaultValue = "createdAt") final String orderBy
+    );
+
+    @Operation(summary = "Pesquisar Ordens de Serviço por texto em título e descrição, ordenadas por relevância",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Ordens encontradas"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping("/search/text")
+    ResponseEntity<List<OrderResponse>> searchText(
+            @Parameter(description = "Texto pesquisado; aceita \"frase exata\", prefixo*, -exclusão e a|b", example = "impressora", required = true)
+            @RequestParam(name = "q") final String text,
+
+            @Parameter(description = "Quantidade máxima de resultados (até 100)", example = "20")
+            @RequestParam(name = "limit", defaultValue = "20") final Integer limit
+    );
+
+    @Operation(summary = "Reconstruir o índice textual das Ordens de Serviço a partir do banco",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Reconstrução iniciada ou já em andamento"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PostMapping("/search/text/rebuild")
+    ResponseEntity<Void> rebuildTextIndex();
+
+    @Operation(summary = "Estatísticas das Ordens de Serviço: quantidade por status, abertas por técnico e tempo médio de fechamento",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estatísticas do último checkpoint"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping("/stats")
+    ResponseEntity<OrderStatsResponse> stats();
+
+    @Operation(summary = "Recalcular as estatísticas das Ordens de Serviço a partir da tabela",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estatísticas recalculadas"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PostMapping("/stats/reconcile")
+    ResponseEntity<OrderStatsResponse> reconcileStats();
+
+    @Operation(summary = "Importar Ordens de Serviço em lote a partir de um array JSON de CreatedOrderRequest",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CreatedOrderRequest.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importação concluída ou interrompida; linhas com erro são listadas na resposta"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PostMapping(value = "/bulk", consumes = APPLICATION_JSON_VALUE)
+    ResponseEntity<BulkImportResponse> importJson(
+            @Parameter(description = "Publicar rk.orders.create para cada ordem criada", example = "true")
+            @RequestParam(name = "notify", defaultValue = "true") final Boolean notify,
+
+            @Parameter(hidden = true) final InputStream body
+    );
+
+    @Operation(summary = "Importar Ordens de Serviço em lote a partir de um CSV com cabeçalho (requesterId,customerId,title,description,status)",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(mediaType = TEXT_CSV_VALUE, schema = @Schema(type = "string"))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importação concluída ou interrompida; linhas com erro são listadas na resposta"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+    ResponseEntity<BulkImportResponse> importCsv(
+            @Parameter(description = "Publicar rk.orders.create para cada ordem criada", example = "true")
+            @RequestParam(name = "notify", defaultValue = "true") final Boolean notify,
+
+            @Parameter(hidden = true) final InputStream body
+    );
+
+    @Operation(summary = "Listar Ordens de Serviço por cursor (keyset), sem contagem total",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Ordens encontradas"),
+                    @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StandardError.class)))
+            })
+    @GetMapping("/scroll")
+    ResponseEntity<ScrollResponse<OrderResponse>> findAllScroll(
+            @Parameter(description = "Token de continuação retornado pela página anterior")
+            @RequestParam(name = "continuationToken", required = false) final String continuationToken,
+
+            @Parameter(description = "Linhas por página", example = "10", required = true)
+            @RequestParam(name = "linesPerPage", defaultValue = "10") final Integer linesPerPage,
+
+            @Parameter(description = "Ordenação (ignorada quando há token)", example = "ASC", required = true)
+            @RequestParam(name = "direction", defaultValue = "ASC") final String direction,
+
+            @Parameter(description = "Ordenar por atributo (ignorado quando há token)", example = "id", required = true)
             @RequestParam(name = "orderBy", defaultValue = "id") final String orderBy
     );
 
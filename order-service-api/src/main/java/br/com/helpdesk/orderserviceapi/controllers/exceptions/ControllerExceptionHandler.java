@@ -53,6 +53,19 @@ public class ControllerExceptionHandler {
         );
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    ResponseEntity<?> handleIllegalArgumentException(final IllegalArgumentException ex, final HttpServletRequest request) {
+        return ResponseEntity.status(BAD_REQUEST).body(
+                StandardError.builder()
+                        .timestamp(now())
+                        .status(BAD_REQUEST.value())
+                        .error(BAD_REQUEST.getReasonPhrase())
+                        .message(ex.getMessage())
+                        .path(request.getRequestURI())
+                        .build()
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     ResponseEntity<ValidationException> handleMethodArgumentNotValidException(final MethodArgumentNotValidException ex, final HttpServletRequest request) {
         var error = ValidationException.builder()
@@ -2,18 +2,40 @@ package br.com.helpdesk.orderserviceapi.controllers.impl;
 
 import br.com.helpdesk.orderserviceapi.controllers.OrderController;
 import br.com.helpdesk.orderserviceapi.mapper.OrderMapper;
+import br.com.helpdesk.orderserviceapi.services.ChangeVersionService;
+import br.com.helpdesk.orderserviceapi.services.OrderImportService;
 import br.com.helpdesk.orderserviceapi.services.OrderService;
+import br.com.helpdesk.orderserviceapi.services.OrderStatsService;
+import br.com.helpdesk.orderserviceapi.services.OrderTextSearchService;
+import br.com.helpdesk.orderserviceapi.specifications.OrderSearchFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import models.enums.OrderStatusEnum;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
+import models.responses.BulkImportResponse;
 import models.responses.OrderResponse;
+import models.responses.OrderStatsResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDERS;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,6 +43,11 @@ public class OrderContollerImpl implements OrderController {
 
     private final OrderService service;
     private final OrderMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ChangeVersionService changeVersionService;
+    private final OrderTextSearchService textSearchService;
+    private final OrderStatsService statsService;
+    private final OrderImportService importService;
 
     @Override
     public ResponseEntity<Void> save(CreatedOrderRequest request) {
@@ -33,6 +60,17 @@ public class OrderContollerImpl implements OrderController {
         return ResponseEntity.ok().body(service.update(id, request));
     }
 
+    @Override
+    public ResponseEntity<Void> patch(final Long id, UpdateOrderRequest request) {
+        service.patch(id, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<UpdateOrdersStatusResponse> updateStatus(UpdateOrdersStatusRequest request) {
+        return ResponseEntity.ok().body(service.updateStatus(request));
+    }
+
     @Override
     public ResponseEntity<OrderResponse> findById(Long id) {
         return ResponseEntity.ok().body(
@@ -47,16 +85,104 @@ public class OrderContollerImpl implements OrderController {
     }
 
     @Override
-    public ResponseEntity<List<OrderResponse>> findAll() {
+    public ResponseEntity<List<OrderResponse>> findAll(final WebRequest webRequest) {
+        // A versão é lida antes da consulta: se mudar no meio, a ETag fica mais antiga que o corpo e o cliente só
+        // recebe a lista de novo na próxima requisição, nunca um 304 com dados velhos
+        final var eTag = changeVersionService.eTag(ORDERS);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(mapper.fromEntities(service.findAll()));
+    }
+
+    @Override
+    public ResponseEntity<Long> version() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(changeVersionService.current(ORDERS));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(out -> {
+                    try (var generator = objectMapper.getFactory().createGenerator(out)) {
+                        generator.setRootValueSeparator(null);
+                        service.streamAll(order -> writeLine(generator, mapper.fromEntity(order)));
+                    }
+                });
+    }
+
+    private void writeLine(final JsonGenerator generator, final OrderResponse order) {
+        try {
+            generator.writeObject(order);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Page<OrderResponse>> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy, WebRequest webRequest) {
+        final var eTag = changeVersionService.eTag(ORDERS);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(service.findAllPaginated(page, linesPerPage, direction, orderBy).map(mapper::fromEntity));
+    }
+
+    @Override
+    public ResponseEntity<ScrollResponse<OrderResponse>> search(
+            OrderStatusEnum status, String customerId, String requesterId,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime closedFrom, LocalDateTime closedTo,
+            String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        final var filter = new OrderSearchFilter(status, customerId, requesterId, createdFrom, createdTo, closedFrom, closedTo);
         return ResponseEntity.ok().body(
-                mapper.fromEntities(service.findAll())
+                service.search(filter, continuationToken, linesPerPage, direction, orderBy).map(mapper::fromEntity)
         );
     }
 
     @Override
-    public ResponseEntity<Page<OrderResponse>> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy) {
+    public ResponseEntity<List<OrderResponse>> searchText(final String text, final Integer limit) {
+        return ResponseEntity.ok().body(mapper.fromEntities(textSearchService.search(text, limit)));
+    }
+
+    @Override
+    public ResponseEntity<Void> rebuildTextIndex() {
+        textSearchService.rebuildAsync();
+        return ResponseEntity.accepted().build();
+    }
+
+    @Override
+    public ResponseEntity<OrderStatsResponse> stats() {
+        return ResponseEntity.ok().body(statsService.stats());
+    }
+
+    @Override
+    public ResponseEntity<OrderStatsResponse> reconcileStats() {
+        statsService.reconcile();
+        return ResponseEntity.ok().body(statsService.stats());
+    }
+
+    @Override
+    public ResponseEntity<BulkImportResponse> importJson(final Boolean notify, final InputStream body) {
+        return ResponseEntity.ok().body(importService.importJson(body, notify));
+    }
+
+    @Override
+    public ResponseEntity<BulkImportResponse> importCsv(final Boolean notify, final InputStream body) {
+        return ResponseEntity.ok().body(importService.importCsv(body, notify));
+    }
+
+    @Override
+    public ResponseEntity<ScrollResponse<OrderResponse>> findAllScroll(String continuationToken, Integer linesPerPage, String direction, String orderBy) {
         return ResponseEntity.ok().body(
-                service.findAllPaginated(page, linesPerPage, direction, orderBy).map(mapper::fromEntity)
+                service.findAllScroll(continuationToken, linesPerPage, direction, orderBy).map(mapper::fromEntity)
         );
     }
 
@@ -0,0 +1,30 @@
+package br.com.helpdesk.orderserviceapi.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+// Contador de alterações por recurso, usado como ETag das listagens sem precisar serializar ou hashear o corpo
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "tb_change_version")
+public class ChangeVersion implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version;
+
+}
@@ -14,13 +14,30 @@ import static java.time.LocalDateTime.now;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "tb_order")
+@Table(indexes = {
+        @Index(name = "idx_order_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_order_status_id", columnList = "status, id"),
+        @Index(name = "idx_order_requester_id_id", columnList = "requesterId, id"),
+        @Index(name = "idx_order_customer_id_id", columnList = "customerId, id"),
+        // Pesquisa: filtro de igualdade seguido da ordenação padrão (createdAt, id), sem filesort
+        @Index(name = "idx_order_status_created_at_id", columnList = "status, createdAt, id"),
+        @Index(name = "idx_order_customer_id_created_at_id", columnList = "customerId, createdAt, id"),
+        @Index(name = "idx_order_requester_id_created_at_id", columnList = "requesterId, createdAt, id"),
+        @Index(name = "idx_order_closed_at_id", columnList = "closedAt, id")
+})
 public class Order implements Serializable {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public static final String ID_SEQUENCE = "tb_order_seq";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // Sequência emulada em tabela (o MySQL não tem SEQUENCE) reservando blocos de ids em memória: com o id conhecido
+    // antes do INSERT o Hibernate agrupa as inserções em lote, o que IDENTITY impede
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 45)
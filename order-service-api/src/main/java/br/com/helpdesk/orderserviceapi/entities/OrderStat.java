@@ -0,0 +1,31 @@
+package br.com.helpdesk.orderserviceapi.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+// Contadores agregados de tb_order (por status, abertas por técnico e tempo de fechamento), mantidos por variações
+// incrementais e reconciliados periodicamente com a própria tabela
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "tb_order_stat")
+public class OrderStat implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(length = 80)
+    private String name;
+
+    @Column(nullable = false)
+    private Long total;
+
+}
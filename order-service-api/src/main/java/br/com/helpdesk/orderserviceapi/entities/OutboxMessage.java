@@ -0,0 +1,48 @@
+package br.com.helpdesk.orderserviceapi.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "tb_order_outbox")
+public class OutboxMessage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final String ID_SEQUENCE = "tb_order_outbox_seq";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // Mesma estratégia de Order: as mensagens de uma importação são gravadas em lote junto com as ordens
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String exchange;
+
+    @Column(nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(length = 255)
+    private String payloadType;
+
+    @Lob
+    @Column(nullable = false, length = 1_000_000)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+}
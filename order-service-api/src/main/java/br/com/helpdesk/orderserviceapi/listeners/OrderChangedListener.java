@@ -0,0 +1,30 @@
+package br.com.helpdesk.orderserviceapi.listeners;
+
+import br.com.helpdesk.orderserviceapi.services.OrderTextSearchService;
+import lombok.RequiredArgsConstructor;
+import models.dtos.OrderChangedMessage;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderChangedListener {
+
+    private final OrderTextSearchService textSearchService;
+
+    // Fila anônima (exclusiva e auto-delete): cada instância mantém o próprio índice textual
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    exchange = @Exchange(value = "helpdesk", type = "topic"),
+                    value = @Queue,
+                    key = "rk.orders.changed"
+            )
+    )
+    public void listener(final OrderChangedMessage message) {
+        textSearchService.apply(message);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.helpdesk.orderserviceapi.listeners;
+
+import br.com.helpdesk.orderserviceapi.services.UserLookupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UserChangedListener {
+
+    private final UserLookupService userLookupService;
+
+    // Fila anônima (exclusiva e auto-delete): cada instância recebe o evento e limpa o próprio cache
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    exchange = @Exchange(value = "helpdesk", type = "topic"),
+                    value = @Queue,
+                    key = "rk.users.update"
+            )
+    )
+    public void listener(final String userId) {
+        log.info("Usuário alterado, removendo do cache: {}", userId);
+        userLookupService.evict(userId);
+    }
+
+}
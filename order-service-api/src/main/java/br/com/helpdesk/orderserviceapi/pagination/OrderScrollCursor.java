@@ -0,0 +1,98 @@
+package br.com.helpdesk.orderserviceapi.pagination;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import models.enums.OrderStatusEnum;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+// Ordenação sempre por (orderBy, id): o cursor guarda o valor ordenado e o id da última ordem lida
+public record OrderScrollCursor(
+        String orderBy,
+        Sort.Direction direction,
+        Long lastId,
+        String lastValue
+) {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+    private static final Set<String> SORTABLE_ATTRIBUTES = Set.of(ID, "requesterId", "customerId", "title", "status", "createdAt");
+
+    public OrderScrollCursor {
+        if (!SORTABLE_ATTRIBUTES.contains(orderBy)) {
+            throw new IllegalArgumentException("Atributo de ordenação inválido: " + orderBy + ". Permitidos: " + SORTABLE_ATTRIBUTES);
+        }
+    }
+
+    public static OrderScrollCursor first(final String orderBy, final Sort.Direction direction) {
+        return new OrderScrollCursor(orderBy, direction, null, null);
+    }
+
+    public static OrderScrollCursor decode(final String token) {
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 4);
+
+            return new OrderScrollCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Token de continuação inválido: " + token);
+        }
+    }
+
+    public OrderScrollCursor after(final Order order) {
+        return new OrderScrollCursor(orderBy, direction, order.getId(), valueOf(order));
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, orderBy, direction.name(), String.valueOf(lastId), lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort toSort() {
+        final var byId = Sort.by(direction, ID);
+        return ID.equals(orderBy) ? byId : Sort.by(direction, orderBy).and(byId);
+    }
+
+    public Specification<Order> toSpecification() {
+        if (isNull(lastId)) return Specification.where(null);
+
+        return (root, query, cb) -> {
+            final Expression<Long> id = root.get(ID);
+            final var afterId = direction.isAscending() ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+
+            return switch (orderBy) {
+                case ID -> afterId;
+                case "status" -> seek(cb, root.get(orderBy), OrderStatusEnum.valueOf(lastValue), afterId);
+                case "createdAt" -> seek(cb, root.get(orderBy), LocalDateTime.parse(lastValue), afterId);
+                default -> seek(cb, root.get(orderBy), lastValue, afterId);
+            };
+        };
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate seek(
+            final CriteriaBuilder cb, final Expression<Y> attribute, final Y value, final Predicate afterId) {
+        final var afterValue = direction.isAscending() ? cb.greaterThan(attribute, value) : cb.lessThan(attribute, value);
+        return cb.or(afterValue, cb.and(cb.equal(attribute, value), afterId));
+    }
+
+    private String valueOf(final Order order) {
+        return switch (orderBy) {
+            case ID -> String.valueOf(order.getId());
+            case "requesterId" -> order.getRequesterId();
+            case "customerId" -> order.getCustomerId();
+            case "title" -> order.getTitle();
+            case "status" -> order.getStatus().name();
+            default -> order.getCreatedAt().toString();
+        };
+    }
+
+}
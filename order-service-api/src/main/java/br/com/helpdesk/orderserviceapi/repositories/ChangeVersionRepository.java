@@ -0,0 +1,27 @@
+package br.com.helpdesk.orderserviceapi.repositories;
+
+import br.com.helpdesk.orderserviceapi.entities.ChangeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeVersionRepository extends JpaRepository<ChangeVersion, String> {
+
+    @Query("select c.version from tb_change_version c where c.name = :name")
+    Optional<Long> findVersion(@Param("name") final String name);
+
+    // Lock compartilhado até o fim da transação: leituras iguais não se bloqueiam, só quem incrementa espera
+    @Query(value = "SELECT version FROM tb_change_version WHERE name = :name FOR SHARE", nativeQuery = true)
+    Optional<Long> findVersionForShare(@Param("name") final String name);
+
+    // Upsert atômico: cria a linha na primeira alteração e depois só incrementa
+    @Modifying
+    @Query(value = "INSERT INTO tb_change_version (name, version) VALUES (:name, 1) ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    void increment(@Param("name") final String name);
+
+}
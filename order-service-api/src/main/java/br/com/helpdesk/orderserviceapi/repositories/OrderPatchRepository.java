@@ -0,0 +1,37 @@
+package br.com.helpdesk.orderserviceapi.repositories;
+
+import models.enums.OrderStatusEnum;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.util.Objects.nonNull;
+
+public interface OrderPatchRepository {
+
+    // UPDATE só das colunas com valor em changes; devolve a quantidade de linhas alteradas (0 ou 1)
+    int patch(Long id, Changes changes);
+
+    // Campos nulos ficam como estão no banco
+    record Changes(
+            String requesterId,
+            String customerId,
+            String title,
+            String description,
+            OrderStatusEnum status,
+            LocalDateTime closedAt
+    ) {
+
+        public boolean isEmpty() {
+            return Stream.of(requesterId, customerId, title, description, status, closedAt).noneMatch(Objects::nonNull);
+        }
+
+        // Só title e description vão para o índice textual
+        public boolean changesText() {
+            return nonNull(title) || nonNull(description);
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package br.com.helpdesk.orderserviceapi.repositories;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import lombok.RequiredArgsConstructor;
+
+import static java.util.Objects.nonNull;
+
+// Fragmento do OrderRepository: o UPDATE é montado com Criteria porque as colunas variam a cada requisição, e
+// o save() de uma entidade carregada regravaria todas elas, inclusive a descrição de até 3000 caracteres
+@RequiredArgsConstructor
+public class OrderPatchRepositoryImpl implements OrderPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(final Long id, final Changes changes) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(Order.class);
+        final var root = update.from(Order.class);
+
+        set(update, "requesterId", changes.requesterId());
+        set(update, "customerId", changes.customerId());
+        set(update, "title", changes.title());
+        set(update, "description", changes.description());
+        set(update, "status", changes.status());
+        set(update, "closedAt", changes.closedAt());
+        update.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static void set(final CriteriaUpdate<Order> update, final String attribute, final Object value) {
+        if (nonNull(value)) update.set(attribute, value);
+    }
+
+}
@@ -1,9 +1,72 @@
 package br.com.helpdesk.orderserviceapi.repositories;
 
 import br.com.helpdesk.orderserviceapi.entities.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import models.enums.OrderStatusEnum;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>, OrderPatchRepository {
+
+    // Integer.MIN_VALUE faz o driver do MySQL ler linha a linha em vez de carregar o ResultSet inteiro
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o from tb_order o order by o.id")
+    Stream<Order> streamAll();
+
+    // A ordem inteira travada até o commit (SELECT ... FOR UPDATE), para PUT e DELETE calcularem as estatísticas
+    // sobre o mesmo estado que vão alterar, sem disputar com um PATCH ou uma alteração de status em lote
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from tb_order o where o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") final Long id);
+
+    // Só os campos usados pelas estatísticas, sem a descrição. FOR UPDATE segura as linhas até o commit, para o estado
+    // lido ser o mesmo que o UPDATE seguinte altera; as linhas são travadas na ordem da chave primária
+    @Query(value = """
+            SELECT id, status, requester_id AS requesterId, created_at AS createdAt, closed_at AS closedAt
+            FROM tb_order WHERE id IN (:ids) ORDER BY id FOR UPDATE
+            """, nativeQuery = true)
+    List<OrderState> findStateForUpdate(@Param("ids") final Collection<Long> ids);
+
+    @Modifying
+    @Query("update tb_order o set o.status = :status where o.id in :ids")
+    int updateStatus(@Param("ids") final Collection<Long> ids, @Param("status") final OrderStatusEnum status);
+
+    @Modifying
+    @Query("update tb_order o set o.status = :status, o.closedAt = :closedAt where o.id in :ids")
+    int updateStatus(
+            @Param("ids") final Collection<Long> ids,
+            @Param("status") final OrderStatusEnum status,
+            @Param("closedAt") final LocalDateTime closedAt
+    );
+
+    interface OrderState {
+        Long getId();
+        OrderStatusEnum getStatus();
+        String getRequesterId();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getClosedAt();
+    }
+
 }
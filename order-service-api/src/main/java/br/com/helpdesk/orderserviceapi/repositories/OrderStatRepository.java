@@ -0,0 +1,38 @@
+package br.com.helpdesk.orderserviceapi.repositories;
+
+import br.com.helpdesk.orderserviceapi.entities.OrderStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderStatRepository extends JpaRepository<OrderStat, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO tb_order_stat (name, total) VALUES (:name, :delta) ON DUPLICATE KEY UPDATE total = total + :delta", nativeQuery = true)
+    void add(@Param("name") final String name, @Param("delta") final Long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM tb_order_stat", nativeQuery = true)
+    void clear();
+
+    // Recalcula todos os contadores a partir de tb_order, com as mesmas chaves de OrderStatsContribution. É um SELECT
+    // comum, sem lock nas linhas de tb_order (um INSERT ... SELECT travaria as linhas lidas)
+    @Query(value = """
+            SELECT CONCAT('status:', status), COUNT(*) FROM tb_order GROUP BY status
+            UNION ALL
+            SELECT CONCAT('open:', requester_id), COUNT(*) FROM tb_order WHERE status IN ('OPEN', 'IN_PROGRESS') GROUP BY requester_id
+            UNION ALL
+            SELECT 'closed:count', COUNT(*) FROM tb_order
+            WHERE status = 'CLOSED' AND created_at IS NOT NULL AND closed_at IS NOT NULL
+            UNION ALL
+            SELECT 'closed:seconds', COALESCE(SUM(TIMESTAMPDIFF(SECOND, created_at, closed_at)), 0) FROM tb_order
+            WHERE status = 'CLOSED' AND created_at IS NOT NULL AND closed_at IS NOT NULL
+            """, nativeQuery = true)
+    List<Object[]> aggregate();
+
+}
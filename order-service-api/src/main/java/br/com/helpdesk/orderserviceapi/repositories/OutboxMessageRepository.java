@@ -0,0 +1,18 @@
+package br.com.helpdesk.orderserviceapi.repositories;
+
+import br.com.helpdesk.orderserviceapi.entities.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // SKIP LOCKED permite que várias instâncias drenem a outbox sem publicar a mesma mensagem em paralelo
+    @Query(value = "SELECT * FROM tb_order_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxMessage> findNextBatchForUpdate(@Param("limit") final Integer limit);
+
+}
@@ -0,0 +1,270 @@
+package br.com.helpdesk.orderserviceapi.search;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
+
+// Índice invertido local (Lucene) de title e description das ordens, em disco e sem servidor externo.
+// As escritas ficam visíveis para a pesquisa no próximo refresh (near-real-time); o commit em disco é feito pelo
+// OrderTextSearchService com a última versão de tb_change_version cujos eventos já foram aplicados, que na subida diz
+// se o índice corresponde ao banco
+@Log4j2
+@Component
+public class OrderTextIndex implements DisposableBean {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String GENERATION = "generation";
+    private static final String VERSION = "orders.version";
+    private static final Map<String, Float> FIELDS = Map.of(TITLE, 2f, DESCRIPTION, 1f);
+    private static final int MAX_APPLIED_AHEAD = 100_000;
+
+    private final Analyzer analyzer = new OrderTextAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile Long committedVersion;
+
+    // Maior versão até a qual todos os eventos rk.orders.changed foram aplicados; as versões recebidas fora de ordem
+    // esperam em appliedAhead até a lacuna ser preenchida. null enquanto não há ponto de partida
+    private Long appliedVersion;
+    private final NavigableSet<Long> appliedAhead = new TreeSet<>();
+
+    // Documentos de gerações anteriores à reconstrução que não foram regravados pertencem a ordens que não existem mais
+    private volatile long generation = System.currentTimeMillis();
+    private volatile boolean rebuilding;
+
+    public OrderTextIndex(
+            @Value("${search.orders.index-dir:./data/order-index}") final Path indexDir,
+            @Value("${search.orders.ram-buffer-mb:64}") final Double ramBufferMb) throws IOException {
+        this.directory = FSDirectory.open(indexDir);
+        this.committedVersion = DirectoryReader.indexExists(directory)
+                ? parseVersion(SegmentInfos.readLatestCommit(directory).getUserData().get(VERSION))
+                : null;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(ramBufferMb));
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("Índice textual de ordens em {} com {} documentos", indexDir.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    // Versão de tb_change_version gravada no último commit; null quando o índice ainda não existe
+    public Long committedVersion() {
+        return committedVersion;
+    }
+
+    // Falhas aqui não desfazem a escrita da ordem: o evento rk.orders.changed ou uma reconstrução corrigem o índice
+    public void index(final Order order) {
+        if (rebuilding) changedDuringRebuild.add(order.getId());
+        write(order);
+    }
+
+    // Usado pelo stream da reconstrução: não marca a ordem como alterada durante a reconstrução
+    public void rebuild(final Order order) {
+        write(order);
+    }
+
+    public void delete(final Long id) {
+        try {
+            if (rebuilding) changedDuringRebuild.add(id);
+            writer.deleteDocuments(idTerm(id));
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("Erro ao remover a ordem {} do índice: {}", id, e.getMessage());
+        }
+    }
+
+    // Ids em ordem de relevância (BM25, title com peso 2). Aceita a sintaxe simples do Lucene: "frase exata",
+    // prefixo*, -exclusão e a|b; termos sem operador são todos obrigatórios
+    public List<Long> search(final String text, final int limit) {
+        final var parser = new SimpleQueryParser(analyzer, FIELDS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        final var query = parser.parse(text);
+
+        try {
+            final var searcher = searcherManager.acquire();
+            try {
+                final var topDocs = searcher.search(query, limit);
+                final var storedFields = searcher.storedFields();
+                final var ids = new ArrayList<Long>(topDocs.scoreDocs.length);
+                for (final var scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao pesquisar no índice de ordens", e);
+        }
+    }
+
+    // A partir daqui, toda ordem gravada ganha a nova geração; as escritas concorrentes são guardadas para serem
+    // relidas do banco no fim, já que o stream da reconstrução pode entregar uma versão mais antiga delas
+    public void beginRebuild() {
+        changedDuringRebuild.clear();
+        generation = System.currentTimeMillis();
+        rebuilding = true;
+    }
+
+    // Ponto de partida: todas as versões até aqui já estão no índice (commit igual ao banco ou reconstrução). Nunca
+    // recua: numa reconstrução manual os eventos consumidos durante o stream podem já ter passado da versão inicial
+    public synchronized void startAppliedAt(final Long version) {
+        if (isNull(appliedVersion) || version > appliedVersion) appliedVersion = version;
+        appliedAhead.headSet(appliedVersion, true).clear();
+        advanceApplied();
+    }
+
+    public synchronized void markApplied(final Long version) {
+        if (nonNull(appliedVersion) && version <= appliedVersion) return;
+
+        appliedAhead.add(version);
+        if (appliedAhead.size() > MAX_APPLIED_AHEAD) {
+            // Evento perdido: o índice não alcança mais uma versão conhecida e só uma reconstrução o corrige
+            log.warn("Índice textual de ordens sem o evento da versão {}; o commit fica nessa versão até a reconstrução",
+                    isNull(appliedVersion) ? null : appliedVersion + 1);
+            appliedAhead.clear();
+            return;
+        }
+        advanceApplied();
+    }
+
+    public synchronized Long appliedVersion() {
+        return appliedVersion;
+    }
+
+    public Set<Long> changedDuringRebuild() {
+        return Set.copyOf(changedDuringRebuild);
+    }
+
+    public void finishRebuild() throws IOException {
+        rebuilding = false;
+        writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation - 1));
+    }
+
+    public void abortRebuild() {
+        rebuilding = false;
+    }
+
+    public void commit(final Long version) throws IOException {
+        if (version.equals(committedVersion) && !writer.hasUncommittedChanges()) return;
+
+        writer.setLiveCommitData(Map.of(VERSION, String.valueOf(version)).entrySet());
+        writer.commit();
+        committedVersion = version;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @Scheduled(fixedDelayString = "${search.orders.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("Erro ao atualizar o leitor do índice de ordens: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void advanceApplied() {
+        if (isNull(appliedVersion)) return;
+        while (appliedAhead.remove(appliedVersion + 1)) appliedVersion++;
+    }
+
+    private void write(final Order order) {
+        try {
+            writer.updateDocument(idTerm(order.getId()), document(order));
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("Erro ao indexar a ordem {}: {}", order.getId(), e.getMessage());
+        }
+    }
+
+    private Document document(final Order order) {
+        final var document = new Document();
+        document.add(new StringField(ID, String.valueOf(order.getId()), Field.Store.YES));
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new TextField(TITLE, requireNonNullElse(order.getTitle(), ""), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, requireNonNullElse(order.getDescription(), ""), Field.Store.NO));
+        return document;
+    }
+
+    private static Term idTerm(final Long id) {
+        return new Term(ID, String.valueOf(id));
+    }
+
+    private static Long parseVersion(final String version) {
+        return isNull(version) ? null : Long.valueOf(version);
+    }
+
+    // Acentos são removidos antes do stemming para "solicitação" e "solicitacao" caírem no mesmo termo
+    static final class OrderTextAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final var source = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(source);
+            stream = new StopFilter(stream, PortugueseAnalyzer.getDefaultStopSet());
+            stream = new ASCIIFoldingFilter(stream);
+            stream = new PortugueseLightStemFilter(stream);
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(final String fieldName, final TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.repositories.ChangeVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeVersionService {
+
+    public static final String ORDERS = "orders";
+    // Época da reconciliação das estatísticas de ordens, ver OrderStatsService
+    public static final String ORDER_STATS = "order-stats";
+
+    private final ChangeVersionRepository repository;
+
+    // ETag fraca: a mesma versão pode gerar bytes diferentes (paginação, compressão), mas o conteúdo é equivalente
+    public String eTag(final String name) {
+        return "W/\"" + name + "-" + current(name) + "\"";
+    }
+
+    public Long current(final String name) {
+        return repository.findVersion(name).orElse(0L);
+    }
+
+    // A versão não muda até o fim da transação: quem for incrementar espera o commit
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long currentShared(final String name) {
+        return repository.findVersionForShare(name).orElse(0L);
+    }
+
+    // Roda na mesma transação da escrita, no fim dela: versão e dados ficam visíveis juntos e o lock da linha do
+    // contador só é mantido até o commit. Com o lock, a versão lida em seguida é a desta transação
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long increment(final String name) {
+        repository.increment(name);
+        return current(name);
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import lombok.RequiredArgsConstructor;
+import models.dtos.OrderChangedMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDERS;
+
+// Toda escrita em tb_order termina aqui, na mesma transação: a versão de tb_change_version invalida as ETags e segue
+// no evento rk.orders.changed. Cada instância, inclusive a que escreveu, marca a versão como aplicada no índice textual
+// ao consumir o evento, então ele é publicado mesmo sem ids (alterações que não mudam title nem description)
+@Service
+@RequiredArgsConstructor
+public class OrderChangePublisher {
+
+    private final OutboxService outboxService;
+    private final ChangeVersionService changeVersionService;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(final Collection<Long> ids) {
+        final var version = changeVersionService.increment(ORDERS);
+        outboxService.enqueue("helpdesk", "rk.orders.changed", new OrderChangedMessage(List.copyOf(ids), version));
+    }
+
+}
@@ -0,0 +1,267 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import br.com.helpdesk.orderserviceapi.mapper.OrderMapper;
+import br.com.helpdesk.orderserviceapi.repositories.OrderRepository;
+import br.com.helpdesk.orderserviceapi.search.OrderTextIndex;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsRecorder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+import models.dtos.OrderCreatedMessage;
+import models.requests.CreatedOrderRequest;
+import models.responses.BulkImportResponse;
+import models.responses.BulkImportResponse.RowError;
+import models.responses.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.joining;
+
+// Importação de ordens em blocos: o corpo é lido em streaming, cada bloco é validado (Bean Validation e uma consulta
+// em lote ao user-service) e gravado na própria transação, com INSERTs em lote para as ordens e para a outbox.
+// Linhas inválidas são relatadas e puladas; erro de leitura ou de gravação interrompe a importação, e os blocos já
+// confirmados permanecem
+@Log4j2
+@Service
+public class OrderImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final OrderRepository repository;
+    private final OrderMapper mapper;
+    private final UserValidationService userValidationService;
+    private final OutboxService outboxService;
+    private final OrderChangePublisher changePublisher;
+    private final OrderStatsRecorder statsRecorder;
+    private final OrderTextIndex textIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Integer chunkSize;
+    private final Counter importedRows;
+
+    public OrderImportService(
+            final OrderRepository repository,
+            final OrderMapper mapper,
+            final UserValidationService userValidationService,
+            final OutboxService outboxService,
+            final OrderChangePublisher changePublisher,
+            final OrderStatsRecorder statsRecorder,
+            final OrderTextIndex textIndex,
+            final TransactionTemplate transactionTemplate,
+            final Validator validator,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${orders.import.chunk-size:1000}") final Integer chunkSize) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.userValidationService = userValidationService;
+        this.outboxService = outboxService;
+        this.changePublisher = changePublisher;
+        this.statsRecorder = statsRecorder;
+        this.textIndex = textIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.importedRows = Counter.builder("orders.import.rows")
+                .description("Ordens criadas pela importação em lote")
+                .register(meterRegistry);
+    }
+
+    // Array JSON de CreatedOrderRequest, lido elemento a elemento
+    public BulkImportResponse importJson(final InputStream body, final boolean notify) {
+        try {
+            return importOrders(objectMapper.readerFor(CreatedOrderRequest.class).readValues(body), notify);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corpo da importação inválido: " + e.getMessage(), e);
+        }
+    }
+
+    // CSV com cabeçalho; as colunas são os campos de CreatedOrderRequest, em qualquer ordem, e colunas extras são ignoradas
+    public BulkImportResponse importCsv(final InputStream body, final boolean notify) {
+        try {
+            return importOrders(
+                    csvMapper.readerFor(CreatedOrderRequest.class)
+                            .with(CsvSchema.emptySchema().withHeader())
+                            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                            .readValues(body),
+                    notify
+            );
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corpo da importação inválido: " + e.getMessage(), e);
+        }
+    }
+
+    private BulkImportResponse importOrders(final Iterator<CreatedOrderRequest> source, final boolean notify) {
+        final var start = System.nanoTime();
+        final var result = new ImportResult();
+        final var chunk = new ArrayList<Row>(chunkSize);
+
+        while (!result.aborted) {
+            final Row row;
+            try {
+                if (!source.hasNext()) break;
+                row = new Row(result.received + 1, source.next());
+            } catch (RuntimeException e) {
+                // Depois de uma linha malformada o leitor não tem como se realinhar
+                result.abort(result.received + 1, "Linha malformada: " + e.getMessage());
+                break;
+            }
+
+            result.received++;
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, result, notify);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty() && !result.aborted) importChunk(chunk, result, notify);
+
+        final var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        final var rowsPerSecond = elapsedMillis == 0 ? result.created : result.created * 1_000d / elapsedMillis;
+        log.info("Importação de ordens: {} recebidas, {} criadas, {} com erro em {} ms ({} linhas/s){}",
+                result.received, result.created, result.failed, elapsedMillis, Math.round(rowsPerSecond),
+                result.aborted ? ", interrompida" : "");
+
+        return new BulkImportResponse(
+                result.received, result.created, result.failed, result.aborted, result.errors, elapsedMillis, rowsPerSecond);
+    }
+
+    private void importChunk(final List<Row> chunk, final ImportResult result, final boolean notify) {
+        final var valid = new ArrayList<Row>(chunk.size());
+        for (final var row : chunk) {
+            final var violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                result.fail(row.number(), violations.stream().map(OrderImportService::describe).sorted().collect(joining("; ")));
+                continue;
+            }
+            try {
+                row.order = mapper.fromRequest(row.request());
+                valid.add(row);
+            } catch (IllegalArgumentException e) {
+                result.fail(row.number(), e.getMessage());
+            }
+        }
+        if (valid.isEmpty()) return;
+
+        final var userIds = new HashSet<String>();
+        valid.forEach(row -> {
+            userIds.add(row.request().requesterId());
+            userIds.add(row.request().customerId());
+        });
+        final Map<String, UserResponse> users;
+        try {
+            users = userValidationService.findExisting(userIds);
+        } catch (RuntimeException e) {
+            log.error("Erro ao consultar os usuários de um bloco da importação de ordens", e);
+            result.abort(valid.get(0).number(), "Erro ao consultar os usuários das linhas " + valid.get(0).number() + " a "
+                    + valid.get(valid.size() - 1).number() + ": " + e.getMessage());
+            result.failed += valid.size() - 1;
+            return;
+        }
+
+        final var toSave = new ArrayList<Row>(valid.size());
+        for (final var row : valid) {
+            if (!users.containsKey(row.request().requesterId())) {
+                result.fail(row.number(), "Usuário não encontrado: " + row.request().requesterId());
+            } else if (!users.containsKey(row.request().customerId())) {
+                result.fail(row.number(), "Usuário não encontrado: " + row.request().customerId());
+            } else {
+                toSave.add(row);
+            }
+        }
+        if (toSave.isEmpty()) return;
+
+        final List<Order> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                final var orders = repository.saveAll(toSave.stream().map(row -> row.order).toList());
+
+                if (notify) {
+                    outboxService.enqueueAll("helpdesk", "rk.orders.create", orders.stream()
+                            .map(order -> new OrderCreatedMessage(
+                                    mapper.fromEntity(order), users.get(order.getCustomerId()), users.get(order.getRequesterId())))
+                            .toList());
+                }
+                orders.forEach(order -> statsRecorder.recordOnCommit(null, OrderStatsContribution.of(order)));
+                changePublisher.publish(orders.stream().map(Order::getId).toList());
+                return orders;
+            });
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar bloco da importação de ordens", e);
+            result.abort(toSave.get(0).number(), "Erro ao gravar as linhas " + toSave.get(0).number() + " a "
+                    + toSave.get(toSave.size() - 1).number() + ": " + e.getMessage());
+            result.failed += toSave.size() - 1;
+            return;
+        }
+
+        saved.forEach(textIndex::index);
+        result.created += saved.size();
+        importedRows.increment(saved.size());
+    }
+
+    private static String describe(final ConstraintViolation<CreatedOrderRequest> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static final class Row {
+
+        private final Long number;
+        private final CreatedOrderRequest request;
+        private Order order;
+
+        private Row(final Long number, final CreatedOrderRequest request) {
+            this.number = number;
+            this.request = request;
+        }
+
+        private Long number() {
+            return number;
+        }
+
+        private CreatedOrderRequest request() {
+            return request;
+        }
+
+    }
+
+    private static final class ImportResult {
+
+        private long received;
+        private long created;
+        private long failed;
+        private boolean aborted;
+        private final List<RowError> errors = new ArrayList<>();
+
+        private void fail(final Long row, final String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new RowError(row, message));
+        }
+
+        private void abort(final Long row, final String message) {
+            fail(row, message);
+            aborted = true;
+        }
+
+    }
+
+}
@@ -1,18 +1,28 @@
 package br.com.helpdesk.orderserviceapi.services;
 
 import br.com.helpdesk.orderserviceapi.entities.Order;
+import br.com.helpdesk.orderserviceapi.specifications.OrderSearchFilter;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
 import models.responses.OrderResponse;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
     void save(CreatedOrderRequest request);
     OrderResponse update(final Long id, UpdateOrderRequest request);
+    void patch(final Long id, UpdateOrderRequest request);
+    UpdateOrdersStatusResponse updateStatus(UpdateOrdersStatusRequest request);
     Order findById(final Long id);
     void deleteById(final Long id);
     List<Order> findAll();
+    void streamAll(Consumer<Order> action);
     Page<Order> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy);
+    ScrollResponse<Order> findAllScroll(String continuationToken, Integer linesPerPage, String direction, String orderBy);
+    ScrollResponse<Order> search(OrderSearchFilter filter, String continuationToken, Integer linesPerPage, String direction, String orderBy);
 }
@@ -0,0 +1,148 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.repositories.OrderStatRepository;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import models.enums.OrderStatusEnum;
+import models.responses.OrderStatsResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDER_STATS;
+import static br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution.CLOSED_COUNT;
+import static br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution.CLOSED_SECONDS;
+import static br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution.OPEN_BY_REQUESTER_PREFIX;
+import static br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution.STATUS_PREFIX;
+import static java.time.LocalDateTime.now;
+
+// Cada instância acumula as próprias variações em memória e as soma em tb_order_stat a cada checkpoint; depois relê a
+// tabela, que já inclui as variações das outras instâncias. A leitura devolve o último snapshot, sem consultar tb_order.
+// A reconciliação avança uma época (em tb_change_version); cada instância só grava as variações da época atual e
+// descarta as anteriores, que o recálculo já contou
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private final OrderStatRepository repository;
+    private final ChangeVersionService changeVersionService;
+    private final OrderStatsRecorder recorder;
+    private final TransactionTemplate transactionTemplate;
+
+    // Checkpoint e reconciliação não se sobrepõem na instância. ReentrantLock em vez de synchronized: os dois rodam
+    // JDBC, e no modo com virtual threads um synchronized prenderia a carrier durante toda a espera no banco
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile OrderStatsResponse snapshot = toResponse(Map.of());
+
+    public OrderStatsResponse stats() {
+        return snapshot;
+    }
+
+    // Na primeira subida a tabela ainda está vazia e os contadores precisam ser calculados a partir de tb_order. A
+    // reconciliação também cria a linha da época, que as escritas leem com lock
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (repository.count() == 0 || changeVersionService.current(ORDER_STATS) == 0) {
+            reconcile();
+            return;
+        }
+        snapshot = load();
+    }
+
+    @Scheduled(fixedDelayString = "${order-stats.checkpoint-interval-ms:5000}")
+    public void checkpoint() {
+        lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Com o lock compartilhado na época, a reconciliação não roda no meio da gravação
+                final var epoch = changeVersionService.currentShared(ORDER_STATS);
+                recorder.discardBefore(epoch);
+
+                // Chaves em ordem fixa: duas instâncias gravando ao mesmo tempo travam as linhas na mesma sequência
+                final var deltas = new TreeMap<>(recorder.pendingDeltas(epoch));
+                if (deltas.isEmpty()) return;
+                deltas.forEach(repository::add);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recorder.markCheckpointed(epoch, deltas);
+                    }
+                });
+            });
+            snapshot = load();
+        } catch (RuntimeException e) {
+            // As variações continuam pendentes e entram no próximo checkpoint
+            log.warn("Erro ao gravar as estatísticas de ordens: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Recalcula tudo a partir de tb_order e corrige qualquer desvio (ex.: variações perdidas numa queda da instância).
+    // O incremento da época trava a linha: espera as escritas e checkpoints da época atual terminarem e segura os novos
+    // até o commit. O SELECT seguinte, sem lock, vê exatamente as escritas das épocas anteriores, cujas variações
+    // ainda pendentes em qualquer instância serão descartadas. As escritas de ordens esperam durante o recálculo
+    @Scheduled(cron = "${order-stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        final var start = System.nanoTime();
+
+        lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                changeVersionService.increment(ORDER_STATS);
+                final var totals = repository.aggregate();
+                repository.clear();
+                totals.forEach(row -> repository.add((String) row[0], ((Number) row[1]).longValue()));
+            });
+            snapshot = load();
+        } finally {
+            lock.unlock();
+        }
+
+        log.info("Estatísticas de ordens reconciliadas em {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private OrderStatsResponse load() {
+        final var totals = new TreeMap<String, Long>();
+        repository.findAll().forEach(stat -> totals.put(stat.getName(), stat.getTotal()));
+        return toResponse(totals);
+    }
+
+    private static OrderStatsResponse toResponse(final Map<String, Long> totals) {
+        final var countByStatus = new EnumMap<OrderStatusEnum, Long>(OrderStatusEnum.class);
+        for (final var status : OrderStatusEnum.values()) {
+            countByStatus.put(status, totals.getOrDefault(STATUS_PREFIX + status.name(), 0L));
+        }
+
+        final var openByRequester = new TreeMap<String, Long>();
+        totals.forEach((name, total) -> {
+            if (name.startsWith(OPEN_BY_REQUESTER_PREFIX) && total > 0) {
+                openByRequester.put(name.substring(OPEN_BY_REQUESTER_PREFIX.length()), total);
+            }
+        });
+
+        final var closedCount = totals.getOrDefault(CLOSED_COUNT, 0L);
+        final var closedSeconds = totals.getOrDefault(CLOSED_SECONDS, 0L);
+
+        return new OrderStatsResponse(
+                countByStatus,
+                openByRequester,
+                closedCount,
+                closedCount > 0 ? closedSeconds / closedCount : null,
+                now().toString()
+        );
+    }
+
+}
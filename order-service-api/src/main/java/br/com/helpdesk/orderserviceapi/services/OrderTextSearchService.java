@@ -0,0 +1,144 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import br.com.helpdesk.orderserviceapi.repositories.OrderRepository;
+import br.com.helpdesk.orderserviceapi.search.OrderTextIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import models.dtos.OrderChangedMessage;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDERS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderTextSearchService {
+
+    private static final int MAX_RESULTS = 100;
+
+    private final OrderTextIndex index;
+    private final OrderService orderService;
+    private final OrderRepository repository;
+    private final ChangeVersionService changeVersionService;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // O índice devolve só os ids; as ordens vêm do banco pela chave primária, então o resultado nunca traz
+    // dados mais antigos que o banco, e ids de ordens já removidas são descartados
+    public List<Order> search(final String text, final Integer limit) {
+        if (Objects.isNull(text) || text.isBlank()) throw new IllegalArgumentException("O texto da pesquisa precisa ser informado");
+
+        final var ids = index.search(text, Math.min(Math.max(limit, 1), MAX_RESULTS));
+        if (ids.isEmpty()) return List.of();
+
+        final var orders = repository.findAllById(ids).stream().collect(toMap(Order::getId, identity()));
+        return ids.stream().map(orders::get).filter(Objects::nonNull).toList();
+    }
+
+    // Evento rk.orders.changed, recebido por todas as instâncias, inclusive a que fez a escrita. A versão só conta
+    // como aplicada depois da reindexação; um evento sem versão (publicado antes dela existir) deixa o commit para trás
+    // e força a reconstrução na próxima subida
+    public void apply(final OrderChangedMessage message) {
+        reindex(message.getIds());
+        if (nonNull(message.getVersion())) index.markApplied(message.getVersion());
+    }
+
+    // Relê as ordens do banco. Ids que não existem mais são de ordens excluídas
+    public void reindex(final Collection<Long> ids) {
+        final var found = new HashSet<Long>();
+        repository.findAllById(ids).forEach(order -> {
+            index.index(order);
+            found.add(order.getId());
+        });
+        ids.stream().filter(id -> !found.contains(id)).forEach(index::delete);
+    }
+
+    // Na subida, o índice só é reconstruído se a versão gravada no último commit não bater com a do banco. O listener
+    // já está consumindo nesse ponto, então toda versão posterior à lida aqui chega por evento
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        final var committed = index.committedVersion();
+        final var current = currentVersion();
+        if (Objects.equals(committed, current)) {
+            index.startAppliedAt(current);
+            log.info("Índice textual de ordens atualizado na versão {}", current);
+            return;
+        }
+
+        log.info("Índice textual de ordens na versão {} e banco na versão {}, reconstruindo", committed, current);
+        rebuildAsync();
+    }
+
+    // A pesquisa continua respondendo com o índice atual enquanto a reconstrução roda
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) return false;
+
+        Thread.ofPlatform().name("order-text-index-rebuild").daemon().start(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    // Grava a versão que o índice comprovadamente aplicou, e não a do banco: eventos de outras instâncias ainda na
+    // fila se perdem com ela quando a instância para, e a versão do banco faria a próxima subida pular a reconstrução
+    @Scheduled(fixedDelayString = "${search.orders.commit-interval-ms:30000}")
+    public void commit() {
+        final var applied = index.appliedVersion();
+        if (rebuilding.get() || isNull(applied)) return;
+
+        try {
+            index.commit(applied);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Erro ao gravar o índice textual de ordens: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        commit();
+    }
+
+    private void rebuild() {
+        final var start = System.nanoTime();
+        // A versão é lida antes do stream: tudo o que for gravado depois chega pelas escritas incrementais
+        final var version = currentVersion();
+
+        index.beginRebuild();
+        try {
+            orderService.streamAll(index::rebuild);
+            reindex(index.changedDuringRebuild());
+            index.finishRebuild();
+            index.startAppliedAt(version);
+            index.commit(index.appliedVersion());
+            log.info("Índice textual de ordens reconstruído com {} documentos em {} ms",
+                    index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            index.abortRebuild();
+            log.error("Erro ao reconstruir o índice textual de ordens", e);
+        }
+    }
+
+    private Long currentVersion() {
+        return changeVersionService.current(ORDERS);
+    }
+
+}
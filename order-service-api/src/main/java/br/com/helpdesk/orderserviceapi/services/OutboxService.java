@@ -0,0 +1,97 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.entities.OutboxMessage;
+import br.com.helpdesk.orderserviceapi.repositories.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import models.messaging.CodecMessageConverter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static java.time.LocalDateTime.now;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository repository;
+    private final RabbitTemplate rabbit;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private Integer batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private Long confirmTimeout;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(final String exchange, final String routingKey, final Object payload) {
+        repository.save(toOutbox(exchange, routingKey, payload));
+    }
+
+    // Com ids de sequência e hibernate.jdbc.batch_size, as mensagens são gravadas em INSERTs em lote
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(final String exchange, final String routingKey, final List<?> payloads) {
+        repository.saveAll(payloads.stream().map(payload -> toOutbox(exchange, routingKey, payload)).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:500}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> publishNextBatch());
+        } while (published != null && published.equals(batchSize));
+    }
+
+    private Integer publishNextBatch() {
+        final var batch = repository.findNextBatchForUpdate(batchSize);
+        if (batch.isEmpty()) return 0;
+
+        publishWithConfirms(batch);
+        repository.deleteAllInBatch(batch);
+
+        log.debug("{} mensagens da outbox publicadas", batch.size());
+        return batch.size();
+    }
+
+    // Publica o lote inteiro no mesmo canal e espera um único round-trip de confirmação do broker;
+    // se algum nack ou timeout ocorrer, a transação é desfeita e o lote volta a ser publicado no próximo ciclo
+    private void publishWithConfirms(final List<OutboxMessage> batch) {
+        rabbit.invoke(operations -> {
+            batch.forEach(outbox -> operations.send(outbox.getExchange(), outbox.getRoutingKey(), toMessage(outbox)));
+            operations.waitForConfirmsOrDie(confirmTimeout);
+            return null;
+        });
+    }
+
+    private OutboxMessage toOutbox(final String exchange, final String routingKey, final Object payload) {
+        final var message = rabbit.getMessageConverter().toMessage(payload, new MessageProperties());
+
+        return OutboxMessage.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .contentType(message.getMessageProperties().getContentType())
+                .payloadType(message.getMessageProperties().getHeader(CodecMessageConverter.TYPE_ID_HEADER))
+                .payload(message.getBody())
+                .createdAt(now())
+                .build();
+    }
+
+    private static Message toMessage(final OutboxMessage outbox) {
+        final var properties = new MessageProperties();
+        properties.setContentType(outbox.getContentType());
+        properties.setHeader(CodecMessageConverter.TYPE_ID_HEADER, outbox.getPayloadType());
+        return new Message(outbox.getPayload(), properties);
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.clients.UserServiceFeignClient;
+import lombok.RequiredArgsConstructor;
+import models.exceptions.ResourceNotFoundException;
+import models.requests.FindUsersByIdsRequest;
+import models.responses.UserResponse;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static br.com.helpdesk.orderserviceapi.config.CacheConfig.USERS_CACHE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Service
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    // Limite de ids do POST /api/users/batch
+    private static final int BATCH_LIMIT = 500;
+
+    private final UserServiceFeignClient client;
+    private final CacheManager cacheManager;
+
+    // O cache não aceita nulos (setAllowNullValues(false)) e o findAllById do UserValidationService monta um mapa com o
+    // retorno, então corpo vazio vira 404 em vez de chegar a eles
+    @Cacheable(value = USERS_CACHE, key = "#id", unless = "#result == null")
+    public UserResponse findById(final String id) {
+        final var user = client.findById(id).getBody();
+        if (isNull(user)) {
+            throw new ResourceNotFoundException("Usuário não encontrado Id: " + id + " Type: " + UserResponse.class.getSimpleName());
+        }
+        return user;
+    }
+
+    // Usa o mesmo cache do findById e busca os que faltam em lotes; usuários inexistentes não aparecem no mapa
+    public Map<String, UserResponse> findAllById(final Collection<String> ids) {
+        final var cache = cacheManager.getCache(USERS_CACHE);
+        final var users = new HashMap<String, UserResponse>();
+        final var missing = new ArrayList<String>();
+        for (final var id : ids) {
+            final var cached = cache.get(id, UserResponse.class);
+            if (nonNull(cached)) users.put(id, cached);
+            else missing.add(id);
+        }
+
+        for (int from = 0; from < missing.size(); from += BATCH_LIMIT) {
+            final var batch = new HashSet<>(missing.subList(from, Math.min(from + BATCH_LIMIT, missing.size())));
+            final var found = client.findAllById(new FindUsersByIdsRequest(batch)).getBody();
+            if (nonNull(found)) {
+                found.forEach((id, user) -> {
+                    cache.put(id, user);
+                    users.put(id, user);
+                });
+            }
+        }
+        return users;
+    }
+
+    @CacheEvict(value = USERS_CACHE, key = "#id")
+    public void evict(final String id) {
+    }
+
+}
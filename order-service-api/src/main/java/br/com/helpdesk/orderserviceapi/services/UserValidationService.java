@@ -0,0 +1,92 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import models.responses.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+@Service
+public class UserValidationService {
+
+    private final UserLookupService userLookupService;
+    private final ExecutorService executor;
+    private final Timer timer;
+
+    public UserValidationService(
+            final UserLookupService userLookupService,
+            final MeterRegistry meterRegistry,
+            @Value("${orders.user-validation.pool-size:16}") final Integer poolSize,
+            @Value("${orders.user-validation.queue-capacity:256}") final Integer queueCapacity,
+            @Value("${threads.virtual.enabled:false}") final Boolean virtualThreads) {
+        this.userLookupService = userLookupService;
+        // Com virtual threads cada consulta ganha a sua; sem elas, fila limitada + CallerRunsPolicy: sob saturação
+        // a thread da requisição faz a consulta, sem descartar nada
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-validation-vt-", 0).factory())
+                : new ThreadPoolExecutor(
+                        poolSize, poolSize, 0L, MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("user-validation-"),
+                        new ThreadPoolExecutor.CallerRunsPolicy()
+                );
+        this.timer = Timer.builder("orders.users.validation")
+                .description("Tempo para validar os usuários de uma ordem no user-service-api")
+                .register(meterRegistry);
+    }
+
+    public Map<String, UserResponse> findAllById(final String... ids) {
+        return timer.record(() -> {
+            final var distinctIds = Arrays.stream(ids).filter(Objects::nonNull).distinct().toList();
+
+            if (distinctIds.size() <= 1) {
+                return distinctIds.stream().collect(toMap(identity(), userLookupService::findById));
+            }
+
+            final var lookups = distinctIds.stream()
+                    .collect(toMap(identity(), id -> supplyAsync(() -> userLookupService.findById(id), executor)));
+
+            return lookups.entrySet().stream()
+                    .collect(toMap(Map.Entry::getKey, entry -> join(entry.getValue())));
+        });
+    }
+
+    // Validação de um lote inteiro (importação): uma consulta por até 500 ids não encontrados no cache.
+    // Ao contrário do findAllById, ids inexistentes não geram erro, só ficam fora do mapa
+    public Map<String, UserResponse> findExisting(final Collection<String> ids) {
+        return timer.record(() -> userLookupService.findAllById(ids));
+    }
+
+    private static UserResponse join(final CompletableFuture<UserResponse> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
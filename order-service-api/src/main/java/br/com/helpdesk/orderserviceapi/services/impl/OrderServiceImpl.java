@@ -1,79 +1,196 @@
 package br.com.helpdesk.orderserviceapi.services.impl;
 
-import br.com.helpdesk.orderserviceapi.clients.UserServiceFeignClient;
 import br.com.helpdesk.orderserviceapi.entities.Order;
 import br.com.helpdesk.orderserviceapi.mapper.OrderMapper;
+import br.com.helpdesk.orderserviceapi.pagination.OrderScrollCursor;
+import br.com.helpdesk.orderserviceapi.repositories.OrderPatchRepository;
 import br.com.helpdesk.orderserviceapi.repositories.OrderRepository;
+import br.com.helpdesk.orderserviceapi.search.OrderTextIndex;
+import br.com.helpdesk.orderserviceapi.services.OrderChangePublisher;
 import br.com.helpdesk.orderserviceapi.services.OrderService;
+import br.com.helpdesk.orderserviceapi.services.OutboxService;
+import br.com.helpdesk.orderserviceapi.services.UserValidationService;
+import br.com.helpdesk.orderserviceapi.specifications.OrderSearchFilter;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsRecorder;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import models.dtos.OrderCreatedMessage;
 import models.exceptions.ResourceNotFoundException;
 import models.requests.CreatedOrderRequest;
 import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
 import models.responses.OrderResponse;
-import models.responses.UserResponse;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import models.responses.ScrollResponse;
+import models.responses.UpdateOrdersStatusResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.time.LocalDateTime.now;
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 import static models.enums.OrderStatusEnum.CLOSED;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_LINES_PER_SCROLL = 100;
+
     private final OrderRepository repository;
     private final OrderMapper mapper;
-    private final UserServiceFeignClient userServiceFeignClient;
-    private final RabbitTemplate rabbit;
+    private final UserValidationService userValidationService;
+    private final OutboxService outboxService;
+    private final OrderChangePublisher changePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final OrderTextIndex textIndex;
+    private final OrderStatsRecorder statsRecorder;
 
     @Override
     public void save(CreatedOrderRequest request) {
-        final var requester = validateUserId(request.requesterId());
-        final var customer = validateUserId(request.customerId());
-        final var entity = repository.save(mapper.fromRequest(request));
-
-        rabbit.convertAndSend(
-                "helpdesk",
-                "rk.orders.create",
-                new OrderCreatedMessage(mapper.fromEntity(entity), customer, requester)
-        );
+        final var users = userValidationService.findAllById(request.requesterId(), request.customerId());
+        final var requester = users.get(request.requesterId());
+        final var customer = users.get(request.customerId());
+
+        // Validação fora da transação: a conexão com o banco só é usada para gravar a ordem e a outbox
+        final var entity = transactionTemplate.execute(status -> {
+            final var saved = repository.save(mapper.fromRequest(request));
+
+            outboxService.enqueue(
+                    "helpdesk",
+                    "rk.orders.create",
+                    new OrderCreatedMessage(mapper.fromEntity(saved), customer, requester)
+            );
+            statsRecorder.recordOnCommit(null, OrderStatsContribution.of(saved));
+            changePublisher.publish(List.of(saved.getId()));
+            return saved;
+        });
+
+        // O índice textual só é atualizado depois do commit, para nunca apontar para uma ordem desfeita
+        textIndex.index(entity);
     }
 
     @Override
     public OrderResponse update(Long id, UpdateOrderRequest request) {
-        validateUsers(request);
-        
-        Order entity = findById(id);
-        entity = mapper.fromRequest(entity, request);
+        userValidationService.findAllById(request.requesterId(), request.customerId());
 
-        if (CLOSED.getDescription().equals(entity.getStatus())) {
-            entity.setClosedAt(now());
-        }
+        final var entity = transactionTemplate.execute(status -> {
+            Order order = findByIdForUpdate(id);
+            final var before = OrderStatsContribution.of(order);
+            order = mapper.fromRequest(order, request);
+
+            if (CLOSED.equals(order.getStatus())) {
+                order.setClosedAt(now());
+            }
 
-        return mapper.fromEntity(repository.save(entity));
+            final var saved = repository.save(order);
+            statsRecorder.recordOnCommit(before, OrderStatsContribution.of(saved));
+            changePublisher.publish(List.of(saved.getId()));
+            return saved;
+        });
+
+        textIndex.index(entity);
+        return mapper.fromEntity(entity);
     }
 
-    private void validateUsers(UpdateOrderRequest request) {
-        if (nonNull(request.requesterId())) validateUserId(request.requesterId());
-        if (nonNull(request.customerId())) validateUserId(request.customerId());
+    // Ao contrário do PUT, não carrega a entidade: o estado lido é só o que as estatísticas precisam e o UPDATE leva
+    // apenas as colunas informadas. A resposta não tem corpo para não exigir uma nova leitura da ordem
+    @Override
+    public void patch(Long id, UpdateOrderRequest request) {
+        userValidationService.findAllById(request.requesterId(), request.customerId());
+        final var status = isNull(request.status()) ? null : mapper.mapStatus(request.status());
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            final var current = repository.findStateForUpdate(List.of(id)).stream()
+                    .findFirst()
+                    .orElseThrow(() -> notFound(id));
+            final var closedAt = CLOSED.equals(status) && !CLOSED.equals(current.getStatus()) ? now() : null;
+            final var changes = new OrderPatchRepository.Changes(
+                    request.requesterId(), request.customerId(), request.title(), request.description(), status, closedAt);
+            if (changes.isEmpty()) return;
+
+            repository.patch(id, changes);
+
+            final var before = contributionOf(current);
+            statsRecorder.recordOnCommit(before, new OrderStatsContribution(
+                    coalesce(status, before.status()),
+                    coalesce(request.requesterId(), before.requesterId()),
+                    before.createdAt(),
+                    coalesce(closedAt, before.closedAt())
+            ));
+            // Sem a ordem completa em mãos, o índice textual é atualizado pelo próprio evento, que relê a ordem do banco
+            changePublisher.publish(changes.changesText() ? List.of(id) : List.of());
+        });
+    }
+
+    // Um único UPDATE para todas as ordens que mudam de status; as que já estão no status pedido ou não existem são
+    // ignoradas. Status não é indexado, então o evento não leva ids para reindexar
+    @Override
+    public UpdateOrdersStatusResponse updateStatus(UpdateOrdersStatusRequest request) {
+        final var status = mapper.mapStatus(request.status());
+
+        final var updatedIds = transactionTemplate.execute(tx -> {
+            final var changed = repository.findStateForUpdate(request.ids()).stream()
+                    .filter(current -> current.getStatus() != status)
+                    .toList();
+            if (changed.isEmpty()) return List.<Long>of();
+
+            final var ids = changed.stream().map(OrderRepository.OrderState::getId).sorted().toList();
+            final var closedAt = CLOSED.equals(status) ? now() : null;
+            if (isNull(closedAt)) repository.updateStatus(ids, status);
+            else repository.updateStatus(ids, status, closedAt);
+
+            changed.forEach(current -> {
+                final var before = contributionOf(current);
+                statsRecorder.recordOnCommit(before, new OrderStatsContribution(
+                        status, before.requesterId(), before.createdAt(), coalesce(closedAt, before.closedAt())));
+            });
+            changePublisher.publish(List.of());
+            return ids;
+        });
+
+        return new UpdateOrdersStatusResponse(request.ids().size(), updatedIds.size(), updatedIds);
     }
 
     @Override
     public Order findById(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Order não encontrada Id: " + id + "Type: " + Order.class.getSimpleName()));
+        return repository.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    private Order findByIdForUpdate(final Long id) {
+        return repository.findByIdForUpdate(id).orElseThrow(() -> notFound(id));
+    }
+
+    private static ResourceNotFoundException notFound(final Long id) {
+        return new ResourceNotFoundException("Order não encontrada Id: " + id + "Type: " + Order.class.getSimpleName());
+    }
+
+    private static <T> T coalesce(final T value, final T current) {
+        return isNull(value) ? current : value;
+    }
+
+    private static OrderStatsContribution contributionOf(final OrderRepository.OrderState state) {
+        return new OrderStatsContribution(state.getStatus(), state.getRequesterId(), state.getCreatedAt(), state.getClosedAt());
     }
 
     @Override
     public void deleteById(Long id) {
-        repository.delete(findById(id));
+        transactionTemplate.executeWithoutResult(status -> {
+            final var order = findByIdForUpdate(id);
+            repository.delete(order);
+            statsRecorder.recordOnCommit(OrderStatsContribution.of(order), null);
+            changePublisher.publish(List.of(id));
+        });
+
+        textIndex.delete(id);
     }
 
     @Override
@@ -81,6 +198,17 @@ public class OrderServiceImpl implements OrderService {
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Order> action) {
+        try (var orders = repository.streamAll()) {
+            orders.forEach(order -> {
+                action.accept(order);
+                entityManager.detach(order);
+            });
+        }
+    }
+
     @Override
     public Page<Order> findAllPaginated(Integer page, Integer linesPerPage, String direction, String orderBy) {
         PageRequest pageRequest = PageRequest.of(
@@ -93,7 +221,35 @@ public class OrderServiceImpl implements OrderService {
         return repository.findAll(pageRequest);
     }
 
-    private UserResponse validateUserId(final String userId) {
-        return userServiceFeignClient.findById(userId).getBody();
+    @Override
+    public ScrollResponse<Order> findAllScroll(String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return scroll(Specification.where(null), continuationToken, linesPerPage, direction, orderBy);
+    }
+
+    // Os filtros não vão no token: o cliente reenvia os mesmos filtros junto com o token de continuação
+    @Override
+    public ScrollResponse<Order> search(OrderSearchFilter filter, String continuationToken, Integer linesPerPage, String direction, String orderBy) {
+        return scroll(filter.toSpecification(), continuationToken, linesPerPage, direction, orderBy);
+    }
+
+    private ScrollResponse<Order> scroll(
+            final Specification<Order> filter, final String continuationToken, final Integer linesPerPage,
+            final String direction, final String orderBy) {
+        final var cursor = isNull(continuationToken) || continuationToken.isBlank()
+                ? OrderScrollCursor.first(orderBy, Sort.Direction.valueOf(direction))
+                : OrderScrollCursor.decode(continuationToken);
+        final var limit = Math.min(Math.max(linesPerPage, 1), MAX_LINES_PER_SCROLL);
+
+        // Busca uma linha a mais para saber se existe próxima página sem executar count(*)
+        final var orders = repository.findBy(
+                filter.and(cursor.toSpecification()),
+                query -> query.sortBy(cursor.toSort()).limit(limit + 1).all()
+        );
+
+        final var hasNext = orders.size() > limit;
+        final var content = hasNext ? orders.subList(0, limit) : orders;
+        final var continuation = hasNext ? cursor.after(content.get(content.size() - 1)).encode() : null;
+
+        return new ScrollResponse<>(content, continuation, hasNext);
     }
 }
@@ -0,0 +1,45 @@
+package br.com.helpdesk.orderserviceapi.specifications;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import models.enums.OrderStatusEnum;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+import static br.com.helpdesk.orderserviceapi.specifications.OrderSpecifications.closedBetween;
+import static br.com.helpdesk.orderserviceapi.specifications.OrderSpecifications.createdBetween;
+import static br.com.helpdesk.orderserviceapi.specifications.OrderSpecifications.hasCustomerId;
+import static br.com.helpdesk.orderserviceapi.specifications.OrderSpecifications.hasRequesterId;
+import static br.com.helpdesk.orderserviceapi.specifications.OrderSpecifications.hasStatus;
+import static java.util.Objects.nonNull;
+
+public record OrderSearchFilter(
+        OrderStatusEnum status,
+        String customerId,
+        String requesterId,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime closedFrom,
+        LocalDateTime closedTo
+) {
+
+    public OrderSearchFilter {
+        validateRange("createdFrom", createdFrom, "createdTo", createdTo);
+        validateRange("closedFrom", closedFrom, "closedTo", closedTo);
+    }
+
+    public Specification<Order> toSpecification() {
+        return Specification.where(hasStatus(status))
+                .and(hasCustomerId(customerId))
+                .and(hasRequesterId(requesterId))
+                .and(createdBetween(createdFrom, createdTo))
+                .and(closedBetween(closedFrom, closedTo));
+    }
+
+    private static void validateRange(final String fromName, final LocalDateTime from, final String toName, final LocalDateTime to) {
+        if (nonNull(from) && nonNull(to) && !from.isBefore(to)) {
+            throw new IllegalArgumentException(fromName + " precisa ser anterior a " + toName);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package br.com.helpdesk.orderserviceapi.specifications;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import models.enums.OrderStatusEnum;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+import static java.util.Objects.isNull;
+
+// Filtros nulos viram null, que o Specification.where/and ignora: só entram na consulta os filtros informados
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> hasStatus(final OrderStatusEnum status) {
+        return isNull(status) ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Order> hasCustomerId(final String customerId) {
+        return isNull(customerId) ? null : (root, query, cb) -> cb.equal(root.get("customerId"), customerId);
+    }
+
+    public static Specification<Order> hasRequesterId(final String requesterId) {
+        return isNull(requesterId) ? null : (root, query, cb) -> cb.equal(root.get("requesterId"), requesterId);
+    }
+
+    public static Specification<Order> createdBetween(final LocalDateTime from, final LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    public static Specification<Order> closedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return between("closedAt", from, to);
+    }
+
+    // Intervalo fechado no início e aberto no fim, para que períodos consecutivos não contem a mesma ordem duas vezes
+    private static Specification<Order> between(final String attribute, final LocalDateTime from, final LocalDateTime to) {
+        if (isNull(from) && isNull(to)) return null;
+
+        return (root, query, cb) -> {
+            final var path = root.<LocalDateTime>get(attribute);
+            if (isNull(to)) return cb.greaterThanOrEqualTo(path, from);
+            if (isNull(from)) return cb.lessThan(path, to);
+            return cb.and(cb.greaterThanOrEqualTo(path, from), cb.lessThan(path, to));
+        };
+    }
+
+}
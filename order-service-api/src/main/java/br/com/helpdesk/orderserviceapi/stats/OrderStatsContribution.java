@@ -0,0 +1,48 @@
+package br.com.helpdesk.orderserviceapi.stats;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import models.enums.OrderStatusEnum;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.nonNull;
+import static models.enums.OrderStatusEnum.CLOSED;
+import static models.enums.OrderStatusEnum.IN_PROGRESS;
+import static models.enums.OrderStatusEnum.OPEN;
+
+// Quanto uma ordem soma em cada contador das estatísticas. Toda transição é "tira a contribuição de antes e soma a de
+// depois", então criação, alteração e exclusão usam a mesma regra. As chaves são as mesmas montadas pela
+// reconciliação em OrderStatRepository.aggregate
+public record OrderStatsContribution(
+        OrderStatusEnum status,
+        String requesterId,
+        LocalDateTime createdAt,
+        LocalDateTime closedAt
+) {
+
+    public static final String STATUS_PREFIX = "status:";
+    public static final String OPEN_BY_REQUESTER_PREFIX = "open:";
+    public static final String CLOSED_COUNT = "closed:count";
+    public static final String CLOSED_SECONDS = "closed:seconds";
+
+    // Copia os campos na hora: a entidade gerenciada continua mudando até o commit
+    public static OrderStatsContribution of(final Order order) {
+        return new OrderStatsContribution(order.getStatus(), order.getRequesterId(), order.getCreatedAt(), order.getClosedAt());
+    }
+
+    public void apply(final long sign, final BiConsumer<String, Long> counter) {
+        counter.accept(STATUS_PREFIX + status.name(), sign);
+
+        if (status == OPEN || status == IN_PROGRESS) {
+            counter.accept(OPEN_BY_REQUESTER_PREFIX + requesterId, sign);
+        }
+
+        if (status == CLOSED && nonNull(createdAt) && nonNull(closedAt)) {
+            counter.accept(CLOSED_COUNT, sign);
+            counter.accept(CLOSED_SECONDS, sign * Duration.between(createdAt, closedAt).toSeconds());
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package br.com.helpdesk.orderserviceapi.stats;
+
+import br.com.helpdesk.orderserviceapi.services.ChangeVersionService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDER_STATS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Acumula em memória as variações dos contadores desde o último checkpoint. LongAdder distribui as somas entre
+// células por thread, então as escritas de ordens não disputam lock nem a mesma linha no banco.
+// As variações ficam separadas pela época de reconciliação lida na transação da escrita: as de épocas anteriores já
+// estão no recálculo e são descartadas
+@Component
+public class OrderStatsRecorder {
+
+    private final ChangeVersionService changeVersionService;
+    private final Map<Long, Map<String, LongAdder>> totals = new ConcurrentHashMap<>();
+    // Só a thread do checkpoint lê e grava
+    private final Map<Long, Map<String, Long>> checkpointed = new HashMap<>();
+
+    public OrderStatsRecorder(final ChangeVersionService changeVersionService) {
+        this.changeVersionService = changeVersionService;
+    }
+
+    // Chamado dentro da transação da escrita; só conta se ela for confirmada. null representa a ordem inexistente
+    // (antes da criação ou depois da exclusão)
+    public void recordOnCommit(final OrderStatsContribution before, final OrderStatsContribution after) {
+        final var epoch = currentEpoch();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(epoch, before, after);
+            }
+        });
+    }
+
+    public void record(final Long epoch, final OrderStatsContribution before, final OrderStatsContribution after) {
+        final var adders = totals.computeIfAbsent(epoch, key -> new ConcurrentHashMap<>());
+        if (nonNull(before)) before.apply(-1, (name, delta) -> add(adders, name, delta));
+        if (nonNull(after)) after.apply(1, (name, delta) -> add(adders, name, delta));
+    }
+
+    // Em vez de zerar os adders (sumThenReset perde somas concorrentes), guarda o total já enviado e devolve a
+    // diferença; o que for somado durante a leitura entra no próximo checkpoint
+    public Map<String, Long> pendingDeltas(final Long epoch) {
+        final var deltas = new HashMap<String, Long>();
+        final var sent = checkpointed.getOrDefault(epoch, Map.of());
+        totals.getOrDefault(epoch, Map.of()).forEach((name, adder) -> {
+            final var delta = adder.sum() - sent.getOrDefault(name, 0L);
+            if (delta != 0) deltas.put(name, delta);
+        });
+        return deltas;
+    }
+
+    public void markCheckpointed(final Long epoch, final Map<String, Long> deltas) {
+        final var sent = checkpointed.computeIfAbsent(epoch, key -> new HashMap<>());
+        deltas.forEach((name, delta) -> sent.merge(name, delta, Long::sum));
+    }
+
+    // Uma escrita confirmada antes da reconciliação pode registrar depois desta chamada; a época volta a ser criada e
+    // é descartada no checkpoint seguinte
+    public void discardBefore(final Long epoch) {
+        totals.keySet().removeIf(key -> key < epoch);
+        checkpointed.keySet().removeIf(key -> key < epoch);
+    }
+
+    // Lida uma vez por transação, com lock compartilhado até o commit: a reconciliação espera as escritas em andamento
+    // e as que chegarem depois dela já leem a época nova
+    private Long currentEpoch() {
+        var epoch = (Long) TransactionSynchronizationManager.getResource(this);
+        if (isNull(epoch)) {
+            epoch = changeVersionService.currentShared(ORDER_STATS);
+            TransactionSynchronizationManager.bindResource(this, epoch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResource(OrderStatsRecorder.this);
+                }
+            });
+        }
+        return epoch;
+    }
+
+    private static void add(final Map<String, LongAdder> adders, final String name, final Long delta) {
+        adders.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+    }
+
+}
@@ -0,0 +1,80 @@
+package br.com.helpdesk.orderserviceapi.pagination;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static models.enums.OrderStatusEnum.IN_PROGRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+class OrderScrollCursorTest {
+
+    private static final Order ORDER = new Order(42L, "652ee4f0a1b2c3d4e5f60718", "652ee4f0a1b2c3d4e5f60719",
+            "Impressora | não imprime", "Sem papel", IN_PROGRESS, LocalDateTime.of(2023, 10, 17, 10, 15, 30), null);
+
+    @Test
+    void encodeAndDecodeRoundTripForEverySortableAttribute() {
+        for (final var orderBy : List.of("id", "requesterId", "customerId", "title", "status", "createdAt")) {
+            final var cursor = OrderScrollCursor.first(orderBy, DESC).after(ORDER);
+
+            assertEquals(cursor, OrderScrollCursor.decode(cursor.encode()), orderBy);
+        }
+    }
+
+    @Test
+    void afterKeepsTheSortAndStoresTheLastValue() {
+        assertEquals(new OrderScrollCursor("title", ASC, 42L, "Impressora | não imprime"),
+                OrderScrollCursor.first("title", ASC).after(ORDER));
+        assertEquals(new OrderScrollCursor("status", DESC, 42L, "IN_PROGRESS"),
+                OrderScrollCursor.first("status", DESC).after(ORDER));
+        assertEquals(new OrderScrollCursor("createdAt", ASC, 42L, "2023-10-17T10:15:30"),
+                OrderScrollCursor.first("createdAt", ASC).after(ORDER));
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        final var token = OrderScrollCursor.first("title", ASC).after(ORDER).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        for (final var token : List.of(
+                "",
+                "não é base64!",
+                raw("title|ASC|42"),
+                raw("title|SIDEWAYS|42|Impressora"),
+                raw("title|ASC|quarenta|Impressora"),
+                raw("password|ASC|42|segredo"))) {
+            final var exception = assertThrows(IllegalArgumentException.class, () -> OrderScrollCursor.decode(token), token);
+            assertEquals("Token de continuação inválido: " + token, exception.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> OrderScrollCursor.decode(null));
+    }
+
+    @Test
+    void rejectsAttributesOutsideTheSortableOnes() {
+        assertThrows(IllegalArgumentException.class, () -> OrderScrollCursor.first("description", ASC));
+    }
+
+    @Test
+    void sortAlwaysEndsWithTheId() {
+        assertEquals(Sort.by(DESC, "id"), OrderScrollCursor.first("id", DESC).toSort());
+        assertEquals(Sort.by(ASC, "title").and(Sort.by(ASC, "id")), OrderScrollCursor.first("title", ASC).toSort());
+    }
+
+    private static String raw(final String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,119 @@
+package br.com.helpdesk.orderserviceapi.search;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Latência da pesquisa textual (top 20) num índice com 1M de ordens sintéticas. O índice fica em build/ e é
+// reaproveitado entre execuções enquanto a quantidade de ordens for a mesma (gravada como versão no commit)
+// ./gradlew jmh -Pjmh.args="OrderTextIndexBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class OrderTextIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "impressora", "rede", "senha", "acesso", "computador", "monitor", "teclado", "mouse", "sistema", "erro",
+            "servidor", "email", "internet", "lenta", "travando", "reiniciar", "instalação", "atualização", "licença",
+            "usuário", "bloqueado", "vpn", "conexão", "wifi", "cabo", "papel", "toner", "scanner", "arquivo", "pasta",
+            "permissão", "backup", "notebook", "bateria", "carregador", "tela", "azul", "lentidão", "aplicativo",
+            "relatório", "planilha", "nota", "fiscal", "financeiro", "estoque", "cadastro", "cliente", "pedido",
+            "sincronização", "certificado", "digital", "token", "telefone", "ramal", "headset", "microfone", "câmera",
+            "reunião", "agenda", "calendário", "navegador", "página", "carregando", "banco", "dados", "consulta",
+            "integração", "falha", "urgente", "solicitação", "troca", "equipamento", "manutenção", "configuração"
+    };
+
+    @Param({"1000000"})
+    private int orders;
+
+    private OrderTextIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        index = new OrderTextIndex(Path.of("build", "jmh-order-index"), 256d);
+        if (Long.valueOf(orders).equals(index.committedVersion())) return;
+
+        final var random = new SplittableRandom(42);
+        index.beginRebuild();
+        for (long id = 1; id <= orders; id++) {
+            index.rebuild(order(id, random));
+        }
+        index.finishRebuild();
+        index.commit((long) orders);
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        index.destroy();
+    }
+
+    @Benchmark
+    public List<Long> singleCommonTerm() {
+        return index.search("impressora", 20);
+    }
+
+    @Benchmark
+    public List<Long> twoTerms() {
+        return index.search("senha bloqueado", 20);
+    }
+
+    @Benchmark
+    public List<Long> phrase() {
+        return index.search("\"tela azul\"", 20);
+    }
+
+    @Benchmark
+    public List<Long> prefix() {
+        return index.search("sincroniza*", 20);
+    }
+
+    @Benchmark
+    public List<Long> rareTerm() {
+        return index.search("codigo4711", 20);
+    }
+
+    @Benchmark
+    public List<Long> exclusion() {
+        return index.search("certificado digital -token", 20);
+    }
+
+    // Títulos com poucas palavras e descrições de 20 a 120 palavras, com frequência enviesada (Zipf aproximado)
+    // e um código raro por ordem para simular números de patrimônio e mensagens de erro
+    private static Order order(final long id, final SplittableRandom random) {
+        final var order = new Order();
+        order.setId(id);
+        order.setTitle(text(random, 3 + random.nextInt(5)));
+        order.setDescription(text(random, 20 + random.nextInt(100)) + " codigo" + random.nextInt(100_000));
+        return order;
+    }
+
+    private static String text(final SplittableRandom random, final int words) {
+        final var builder = new StringBuilder(words * 10);
+        for (int i = 0; i < words; i++) {
+            final var rank = (int) Math.floor(Math.pow(WORDS.length + 1, random.nextDouble())) - 1;
+            builder.append(WORDS[Math.min(rank, WORDS.length - 1)]).append(' ');
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,139 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.repositories.OrderStatRepository;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static br.com.helpdesk.orderserviceapi.services.ChangeVersionService.ORDER_STATS;
+import static models.enums.OrderStatusEnum.IN_PROGRESS;
+import static models.enums.OrderStatusEnum.OPEN;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Checkpoint e reconciliação com o banco simulado: o que importa aqui é quais variações são gravadas em cada época
+class OrderStatsServiceTest {
+
+    private static final String REQUESTER_ID = "652ee4f0a1b2c3d4e5f60718";
+    private static final OrderStatsContribution OPENED =
+            new OrderStatsContribution(OPEN, REQUESTER_ID, LocalDateTime.of(2023, 10, 1, 9, 0), null);
+    private static final OrderStatsContribution STARTED =
+            new OrderStatsContribution(IN_PROGRESS, REQUESTER_ID, LocalDateTime.of(2023, 10, 1, 9, 0), null);
+
+    private final OrderStatRepository repository = mock(OrderStatRepository.class);
+    private final ChangeVersionService changeVersionService = mock(ChangeVersionService.class);
+    private final OrderStatsRecorder recorder = new OrderStatsRecorder(changeVersionService);
+    private final OrderStatsService service = new OrderStatsService(
+            repository, changeVersionService, recorder, new TransactionTemplate(new NoOpTransactionManager()));
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAll()).thenReturn(List.of());
+        when(changeVersionService.currentShared(ORDER_STATS)).thenReturn(1L);
+    }
+
+    @Test
+    void checkpointWritesEachDeltaOnce() {
+        recorder.record(1L, null, OPENED);
+        service.checkpoint();
+
+        verify(repository).add("status:OPEN", 1L);
+        verify(repository).add("open:" + REQUESTER_ID, 1L);
+
+        reset(repository);
+        recorder.record(1L, OPENED, STARTED);
+        service.checkpoint();
+
+        verify(repository).add("status:OPEN", -1L);
+        verify(repository).add("status:IN_PROGRESS", 1L);
+        verify(repository, never()).add("open:" + REQUESTER_ID, 1L);
+    }
+
+    @Test
+    void failedCheckpointRetriesTheSameDeltas() {
+        recorder.record(1L, null, OPENED);
+        doThrow(new IllegalStateException("banco fora")).when(repository).add("status:OPEN", 1L);
+        service.checkpoint();
+
+        reset(repository);
+        service.checkpoint();
+
+        verify(repository).add("status:OPEN", 1L);
+        verify(repository).add("open:" + REQUESTER_ID, 1L);
+    }
+
+    // Outra instância reconciliou: o recálculo já contou as escritas da época 1 que esta instância ainda não gravou
+    @Test
+    void checkpointDropsDeltasAlreadyCountedByAReconcile() {
+        recorder.record(1L, null, OPENED);
+        recorder.record(2L, OPENED, STARTED);
+        when(changeVersionService.currentShared(ORDER_STATS)).thenReturn(2L);
+
+        service.checkpoint();
+
+        verify(repository).add("status:OPEN", -1L);
+        verify(repository).add("status:IN_PROGRESS", 1L);
+        verify(repository, never()).add("status:OPEN", 1L);
+        verify(repository, never()).add("open:" + REQUESTER_ID, 1L);
+    }
+
+    @Test
+    void reconcileAdvancesTheEpochBeforeRecomputing() {
+        when(repository.aggregate()).thenReturn(List.<Object[]>of(new Object[]{"status:OPEN", 3L}));
+        recorder.record(1L, null, OPENED);
+
+        service.reconcile();
+
+        final InOrder order = inOrder(changeVersionService, repository);
+        order.verify(changeVersionService).increment(ORDER_STATS);
+        order.verify(repository).aggregate();
+        order.verify(repository).clear();
+        order.verify(repository).add("status:OPEN", 3L);
+
+        // As variações pendentes desta instância são da época anterior e já estão no recálculo
+        reset(repository);
+        when(repository.findAll()).thenReturn(List.of());
+        when(changeVersionService.currentShared(ORDER_STATS)).thenReturn(2L);
+        service.checkpoint();
+
+        verify(repository, never()).add(anyString(), anyLong());
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(final DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(final DefaultTransactionStatus status) {
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package br.com.helpdesk.orderserviceapi.services;
+
+import br.com.helpdesk.orderserviceapi.clients.UserServiceFeignClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import models.enums.ProfileEnum;
+import models.exceptions.ResourceNotFoundException;
+import models.responses.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserLookupServiceTest {
+
+    private static final UserResponse CUSTOMER = new UserResponse(
+            "652ee4f0a1b2c3d4e5f60718", "Cliente", "cliente@mail.com", null, Set.of(ProfileEnum.ROLE_CUSTOMER));
+    private static final String MISSING_ID = "652ee4f0a1b2c3d4e5f60719";
+
+    private final UserServiceFeignClient client = mock(UserServiceFeignClient.class);
+    private final UserLookupService lookupService = new UserLookupService(client, new ConcurrentMapCacheManager());
+    private final UserValidationService validationService =
+            new UserValidationService(lookupService, new SimpleMeterRegistry(), 2, 4, false);
+
+    @AfterEach
+    void tearDown() {
+        validationService.shutdown();
+    }
+
+    @Test
+    void emptyBodyIsNotFound() {
+        when(client.findById(MISSING_ID)).thenReturn(ResponseEntity.ok(null));
+
+        assertThrows(ResourceNotFoundException.class, () -> lookupService.findById(MISSING_ID));
+    }
+
+    // Antes o null chegava ao toMap e virava NullPointerException (500)
+    @Test
+    void validationPropagatesNotFoundForOneOrManyIds() {
+        when(client.findById(CUSTOMER.id())).thenReturn(ResponseEntity.ok(CUSTOMER));
+        when(client.findById(MISSING_ID)).thenReturn(ResponseEntity.ok(null));
+
+        assertEquals(CUSTOMER, validationService.findAllById(CUSTOMER.id()).get(CUSTOMER.id()));
+        assertThrows(ResourceNotFoundException.class, () -> validationService.findAllById(MISSING_ID));
+        assertThrows(ResourceNotFoundException.class, () -> validationService.findAllById(CUSTOMER.id(), MISSING_ID));
+    }
+
+}
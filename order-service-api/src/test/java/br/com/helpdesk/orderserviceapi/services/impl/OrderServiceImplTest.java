@@ -0,0 +1,219 @@
+package br.com.helpdesk.orderserviceapi.services.impl;
+
+import br.com.helpdesk.orderserviceapi.entities.Order;
+import br.com.helpdesk.orderserviceapi.mapper.OrderMapperImpl;
+import br.com.helpdesk.orderserviceapi.repositories.OrderPatchRepositoryImpl;
+import br.com.helpdesk.orderserviceapi.repositories.OrderRepository;
+import br.com.helpdesk.orderserviceapi.search.OrderTextIndex;
+import br.com.helpdesk.orderserviceapi.services.OrderChangePublisher;
+import br.com.helpdesk.orderserviceapi.services.OutboxService;
+import br.com.helpdesk.orderserviceapi.services.UserValidationService;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsContribution;
+import br.com.helpdesk.orderserviceapi.stats.OrderStatsRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import models.enums.OrderStatusEnum;
+import models.requests.UpdateOrderRequest;
+import models.requests.UpdateOrdersStatusRequest;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static models.enums.OrderStatusEnum.CLOSED;
+import static models.enums.OrderStatusEnum.IN_PROGRESS;
+import static models.enums.OrderStatusEnum.OPEN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// PATCH e alteração de status em lote contra o H2 em modo MySQL, com o repositório real e os colaboradores de
+// mensageria, índice e estatísticas simulados
+class OrderServiceImplTest {
+
+    private static final String REQUESTER_ID = "652ee4f0a1b2c3d4e5f60718";
+    private static final String CUSTOMER_ID = "652ee4f0a1b2c3d4e5f60719";
+    private static final String OTHER_REQUESTER_ID = "652ee4f0a1b2c3d4e5f6071a";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 10, 1, 9, 0);
+    private static final LocalDateTime CLOSED_AT = LocalDateTime.of(2023, 10, 2, 9, 0);
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+    private static EntityManager entityManager;
+    private static OrderRepository repository;
+    private static TransactionTemplate transactionTemplate;
+
+    private OrderStatsRecorder statsRecorder;
+    private OrderServiceImpl service;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:order-service;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("br.com.helpdesk.orderserviceapi.entities");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Mesma nomenclatura de colunas do Spring Boot (requesterId -> requester_id), usada pelas consultas nativas
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()
+        ));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        repository = new JpaRepositoryFactory(entityManager).getRepository(
+                OrderRepository.class, RepositoryFragments.just(new OrderPatchRepositoryImpl(entityManager)));
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        factoryBean.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> repository.deleteAllInBatch());
+
+        final var userValidationService = mock(UserValidationService.class);
+        when(userValidationService.findAllById(any(), any())).thenReturn(Map.of());
+        statsRecorder = mock(OrderStatsRecorder.class);
+
+        service = new OrderServiceImpl(
+                repository,
+                new OrderMapperImpl(),
+                userValidationService,
+                mock(OutboxService.class),
+                mock(OrderChangePublisher.class),
+                transactionTemplate,
+                entityManager,
+                mock(OrderTextIndex.class),
+                statsRecorder
+        );
+    }
+
+    @Test
+    void patchWritesOnlyTheColumnsThatWereSent() {
+        final var order = insert(OPEN, null);
+
+        service.patch(order.getId(), new UpdateOrderRequest(null, null, "Novo título", null, null));
+
+        final var patched = reload(order);
+        assertEquals("Novo título", patched.getTitle());
+        assertEquals(order.getDescription(), patched.getDescription());
+        assertEquals(REQUESTER_ID, patched.getRequesterId());
+        assertEquals(CUSTOMER_ID, patched.getCustomerId());
+        assertEquals(OPEN, patched.getStatus());
+        assertEquals(CREATED_AT, patched.getCreatedAt());
+        assertNull(patched.getClosedAt());
+    }
+
+    @Test
+    void patchSetsClosedAtOnlyWhenEnteringClosed() {
+        final var open = insert(OPEN, null);
+        final var closed = insert(CLOSED, CLOSED_AT);
+
+        service.patch(open.getId(), new UpdateOrderRequest(null, null, null, null, CLOSED.getDescription()));
+        service.patch(closed.getId(), new UpdateOrderRequest(OTHER_REQUESTER_ID, null, null, null, CLOSED.getDescription()));
+
+        final var nowClosed = reload(open);
+        assertEquals(CLOSED, nowClosed.getStatus());
+        assertNotNull(nowClosed.getClosedAt());
+
+        final var stillClosed = reload(closed);
+        assertEquals(OTHER_REQUESTER_ID, stillClosed.getRequesterId());
+        assertEquals(CLOSED_AT, stillClosed.getClosedAt());
+    }
+
+    @Test
+    void patchLeavesClosedAtWhenMovingToAnotherStatus() {
+        final var order = insert(OPEN, null);
+
+        service.patch(order.getId(), new UpdateOrderRequest(null, null, null, null, IN_PROGRESS.getDescription()));
+
+        final var patched = reload(order);
+        assertEquals(IN_PROGRESS, patched.getStatus());
+        assertNull(patched.getClosedAt());
+    }
+
+    @Test
+    void updateStatusSkipsUnknownIdsAndOrdersAlreadyInTheTargetStatus() {
+        final var open = insert(OPEN, null);
+        final var inProgress = insert(IN_PROGRESS, null);
+        final var closed = insert(CLOSED, CLOSED_AT);
+        final var unknownId = closed.getId() + 1_000;
+
+        final var response = service.updateStatus(new UpdateOrdersStatusRequest(
+                Set.of(open.getId(), inProgress.getId(), closed.getId(), unknownId), CLOSED.getDescription()));
+
+        assertEquals(4, response.requested());
+        assertEquals(2, response.updated());
+        assertEquals(List.of(open.getId(), inProgress.getId()), response.updatedIds());
+
+        assertEquals(CLOSED, reload(open).getStatus());
+        assertNotNull(reload(open).getClosedAt());
+        assertEquals(CLOSED, reload(inProgress).getStatus());
+        assertNotNull(reload(inProgress).getClosedAt());
+        assertEquals(CLOSED_AT, reload(closed).getClosedAt());
+    }
+
+    @Test
+    void updateStatusKeepsClosedAtWhenLeavingClosed() {
+        final var closed = insert(CLOSED, CLOSED_AT);
+
+        final var response = service.updateStatus(
+                new UpdateOrdersStatusRequest(Set.of(closed.getId()), IN_PROGRESS.getDescription()));
+
+        assertTrue(response.updatedIds().contains(closed.getId()));
+        final var reopened = reload(closed);
+        assertEquals(IN_PROGRESS, reopened.getStatus());
+        assertEquals(CLOSED_AT, reopened.getClosedAt());
+    }
+
+    @Test
+    void updateAndDeleteRecordStatsFromTheLockedOrder() {
+        final var order = insert(IN_PROGRESS, null);
+
+        service.update(order.getId(), new UpdateOrderRequest(null, null, null, null, CLOSED.getDescription()));
+        final var closed = reload(order);
+        verify(statsRecorder).recordOnCommit(eq(OrderStatsContribution.of(order)), any());
+
+        service.deleteById(order.getId());
+        verify(statsRecorder).recordOnCommit(eq(OrderStatsContribution.of(closed)), isNull());
+        assertTrue(repository.findById(order.getId()).isEmpty());
+    }
+
+    private static Order insert(final OrderStatusEnum status, final LocalDateTime closedAt) {
+        return transactionTemplate.execute(tx -> repository.save(new Order(
+                null, REQUESTER_ID, CUSTOMER_ID, "Computador", "Computador não liga", status, CREATED_AT, closedAt)));
+    }
+
+    private static Order reload(final Order order) {
+        return repository.findById(order.getId()).orElseThrow();
+    }
+
+}
@@ -0,0 +1,174 @@
+package br.com.helpdesk.orderserviceapi.specifications;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Consultas geradas pelo OrderSearchFilter + cursor (primeira página, 21 linhas ordenadas por createdAt, id) sobre
+// uma tb_order gerada com um milhão de linhas, com e sem os índices compostos da pesquisa. Roda no H2 em modo
+// MySQL: os números absolutos diferem do MySQL, mas mostram a diferença entre varrer a tabela e seguir o índice
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class OrderSearchBenchmark {
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "CLOSED", "CANCELED"};
+    private static final int CUSTOMERS = 20_000;
+    private static final int REQUESTERS = 200;
+    private static final LocalDateTime START = LocalDateTime.of(2022, 1, 1, 0, 0);
+    private static final String SELECT = "select id, requester_id, customer_id, title, description, status, created_at, closed_at from tb_order ";
+    private static final String FIRST_PAGE = " order by created_at desc, id desc limit 21";
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"none", "composite"})
+    private String indexes;
+
+    private Connection connection;
+    private PreparedStatement byStatus;
+    private PreparedStatement byCustomerAndPeriod;
+    private PreparedStatement byRequesterAndStatus;
+    private PreparedStatement byClosedPeriod;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:orders-" + indexes + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (var statement = connection.createStatement()) {
+            statement.execute("""
+                    create table tb_order (
+                        id bigint auto_increment primary key,
+                        requester_id varchar(45) not null,
+                        customer_id varchar(45) not null,
+                        title varchar(50) not null,
+                        description varchar(3000) not null,
+                        status varchar(20) not null,
+                        created_at timestamp,
+                        closed_at timestamp
+                    )""");
+        }
+        generate();
+
+        try (var statement = connection.createStatement()) {
+            // Índices que já existiam antes da pesquisa
+            statement.execute("create index idx_order_created_at_id on tb_order (created_at, id)");
+            statement.execute("create index idx_order_status_id on tb_order (status, id)");
+            statement.execute("create index idx_order_requester_id_id on tb_order (requester_id, id)");
+            statement.execute("create index idx_order_customer_id_id on tb_order (customer_id, id)");
+            if ("composite".equals(indexes)) {
+                statement.execute("create index idx_order_status_created_at_id on tb_order (status, created_at, id)");
+                statement.execute("create index idx_order_customer_id_created_at_id on tb_order (customer_id, created_at, id)");
+                statement.execute("create index idx_order_requester_id_created_at_id on tb_order (requester_id, created_at, id)");
+                statement.execute("create index idx_order_closed_at_id on tb_order (closed_at, id)");
+            }
+            statement.execute("analyze");
+        }
+
+        byStatus = connection.prepareStatement(SELECT + "where status = ?" + FIRST_PAGE);
+        byCustomerAndPeriod = connection.prepareStatement(SELECT + "where customer_id = ? and created_at >= ? and created_at < ?" + FIRST_PAGE);
+        byRequesterAndStatus = connection.prepareStatement(SELECT + "where requester_id = ? and status = ?" + FIRST_PAGE);
+        byClosedPeriod = connection.prepareStatement(SELECT + "where closed_at >= ? and closed_at < ?" + FIRST_PAGE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    // Os parâmetros mudam a cada chamada para o H2 não reaproveitar o resultado da execução anterior
+    @Benchmark
+    public int status() throws SQLException {
+        byStatus.setString(1, STATUSES[invocation++ % STATUSES.length]);
+        return count(byStatus);
+    }
+
+    @Benchmark
+    public int customerAndCreatedPeriod() throws SQLException {
+        final var month = invocation++ % 24;
+        byCustomerAndPeriod.setString(1, "customer-" + (invocation * 31 % CUSTOMERS));
+        byCustomerAndPeriod.setTimestamp(2, Timestamp.valueOf(START.plusMonths(month)));
+        byCustomerAndPeriod.setTimestamp(3, Timestamp.valueOf(START.plusMonths(month + 12)));
+        return count(byCustomerAndPeriod);
+    }
+
+    @Benchmark
+    public int requesterAndStatus() throws SQLException {
+        byRequesterAndStatus.setString(1, "requester-" + (invocation++ % REQUESTERS));
+        byRequesterAndStatus.setString(2, STATUSES[invocation % STATUSES.length]);
+        return count(byRequesterAndStatus);
+    }
+
+    @Benchmark
+    public int closedPeriod() throws SQLException {
+        final var from = START.plusDays(invocation++ % 1_000);
+        byClosedPeriod.setTimestamp(1, Timestamp.valueOf(from));
+        byClosedPeriod.setTimestamp(2, Timestamp.valueOf(from.plusDays(7)));
+        return count(byClosedPeriod);
+    }
+
+    private static int count(final PreparedStatement query) throws SQLException {
+        var count = 0;
+        try (var resultSet = query.executeQuery()) {
+            while (resultSet.next()) count++;
+        }
+        return count;
+    }
+
+    // Três anos de ordens; a maioria já fechada, como numa base real de chamados
+    private void generate() throws SQLException {
+        final var random = new SplittableRandom(42);
+        final var minutes = 3 * 365 * 24 * 60;
+        connection.setAutoCommit(false);
+        try (var insert = connection.prepareStatement(
+                "insert into tb_order (requester_id, customer_id, title, description, status, created_at, closed_at) values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                final var createdAt = START.plusMinutes(random.nextInt(minutes));
+                final var roll = random.nextInt(100);
+                final var status = roll < 75 ? STATUSES[2] : roll < 85 ? STATUSES[3] : roll < 93 ? STATUSES[1] : STATUSES[0];
+
+                insert.setString(1, "requester-" + random.nextInt(REQUESTERS));
+                insert.setString(2, "customer-" + random.nextInt(CUSTOMERS));
+                insert.setString(3, "Ordem " + i);
+                insert.setString(4, "Descrição da ordem " + i);
+                insert.setString(5, status);
+                insert.setTimestamp(6, Timestamp.valueOf(createdAt));
+                insert.setTimestamp(7, "CLOSED".equals(status) ? Timestamp.valueOf(createdAt.plusHours(1 + random.nextInt(96))) : null);
+                insert.addBatch();
+
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+    }
+
+}
@@ -0,0 +1,152 @@
+package br.com.helpdesk.orderserviceapi.stats;
+
+import models.enums.OrderStatusEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Custo das estatísticas do painel calculadas por agregação sobre tb_order (o SELECT da reconciliação, no H2 em modo
+// MySQL com um milhão de linhas) contra o custo, no caminho da escrita, de registrar a transição no OrderStatsRecorder.
+// A leitura do endpoint é só o snapshot em memória e não entra na comparação
+// ./gradlew jmh -Pjmh.args="OrderStatsBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class OrderStatsBenchmark {
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "CLOSED", "CANCELED"};
+    private static final int REQUESTERS = 200;
+    private static final LocalDateTime START = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    @State(Scope.Benchmark)
+    public static class Table {
+
+        @Param({"1000000"})
+        private int rows;
+
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void setup() throws SQLException {
+            connection = DriverManager.getConnection("jdbc:h2:mem:order-stats;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            try (var statement = connection.createStatement()) {
+                statement.execute("""
+                        create table tb_order (
+                            id bigint auto_increment primary key,
+                            requester_id varchar(45) not null,
+                            status varchar(20) not null,
+                            created_at timestamp,
+                            closed_at timestamp
+                        )""");
+            }
+            generate();
+            try (var statement = connection.createStatement()) {
+                statement.execute("create index idx_order_status_id on tb_order (status, id)");
+                statement.execute("create index idx_order_requester_id_id on tb_order (requester_id, id)");
+                statement.execute("analyze");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (var statement = connection.createStatement()) {
+                statement.execute("shutdown");
+            }
+        }
+
+        private void generate() throws SQLException {
+            final var random = new SplittableRandom(42);
+            final var minutes = 3 * 365 * 24 * 60;
+            connection.setAutoCommit(false);
+            try (var insert = connection.prepareStatement(
+                    "insert into tb_order (requester_id, status, created_at, closed_at) values (?, ?, ?, ?)")) {
+                for (int i = 0; i < rows; i++) {
+                    final var createdAt = START.plusMinutes(random.nextInt(minutes));
+                    final var roll = random.nextInt(100);
+                    final var status = roll < 75 ? STATUSES[2] : roll < 85 ? STATUSES[3] : roll < 93 ? STATUSES[1] : STATUSES[0];
+
+                    insert.setString(1, "requester-" + random.nextInt(REQUESTERS));
+                    insert.setString(2, status);
+                    insert.setTimestamp(3, Timestamp.valueOf(createdAt));
+                    insert.setTimestamp(4, "CLOSED".equals(status) ? Timestamp.valueOf(createdAt.plusHours(1 + random.nextInt(96))) : null);
+                    insert.addBatch();
+
+                    if (i % 10_000 == 9_999) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recorder {
+
+        // Sem transação nem banco: o benchmark chama record direto, sem ler a época
+        private final OrderStatsRecorder recorder = new OrderStatsRecorder(null);
+
+    }
+
+    // Mesmo SELECT de OrderStatRepository.aggregate
+    @Benchmark
+    public int aggregateFromTable(final Table table) throws SQLException {
+        var rows = 0;
+        try (var statement = table.connection.createStatement();
+             var resultSet = statement.executeQuery("""
+                     SELECT CONCAT('status:', status), COUNT(*) FROM tb_order GROUP BY status
+                     UNION ALL
+                     SELECT CONCAT('open:', requester_id), COUNT(*) FROM tb_order WHERE status IN ('OPEN', 'IN_PROGRESS') GROUP BY requester_id
+                     UNION ALL
+                     SELECT 'closed:count', COUNT(*) FROM tb_order
+                     WHERE status = 'CLOSED' AND created_at IS NOT NULL AND closed_at IS NOT NULL
+                     UNION ALL
+                     SELECT 'closed:seconds', COALESCE(SUM(TIMESTAMPDIFF(SECOND, created_at, closed_at)), 0) FROM tb_order
+                     WHERE status = 'CLOSED' AND created_at IS NOT NULL AND closed_at IS NOT NULL
+                     """)) {
+            while (resultSet.next()) rows++;
+        }
+        return rows;
+    }
+
+    // Transição de status de uma ordem (ex.: IN_PROGRESS -> CLOSED), com quatro threads escrevendo ao mesmo tempo
+    @Benchmark
+    @Threads(4)
+    public void recordTransition(final Recorder state) {
+        final var random = ThreadLocalRandom.current();
+        final var requesterId = "requester-" + random.nextInt(REQUESTERS);
+        final var createdAt = START.plusMinutes(random.nextInt(100_000));
+        state.recorder.record(
+                0L,
+                new OrderStatsContribution(OrderStatusEnum.IN_PROGRESS, requesterId, createdAt, null),
+                new OrderStatsContribution(OrderStatusEnum.CLOSED, requesterId, createdAt, createdAt.plusHours(5))
+        );
+    }
+
+}
@@ -0,0 +1,87 @@
+package br.com.helpdesk.orderserviceapi.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static models.enums.OrderStatusEnum.CLOSED;
+import static models.enums.OrderStatusEnum.IN_PROGRESS;
+import static models.enums.OrderStatusEnum.OPEN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderStatsRecorderTest {
+
+    private static final String REQUESTER_ID = "652ee4f0a1b2c3d4e5f60718";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 10, 1, 9, 0);
+
+    private static final OrderStatsContribution OPENED = new OrderStatsContribution(OPEN, REQUESTER_ID, CREATED_AT, null);
+    private static final OrderStatsContribution STARTED = new OrderStatsContribution(IN_PROGRESS, REQUESTER_ID, CREATED_AT, null);
+    private static final OrderStatsContribution CLOSED_AFTER_AN_HOUR =
+            new OrderStatsContribution(CLOSED, REQUESTER_ID, CREATED_AT, CREATED_AT.plusHours(1));
+
+    // Sem transação: os testes chamam record direto, sem ler a época
+    private final OrderStatsRecorder recorder = new OrderStatsRecorder(null);
+
+    @Test
+    void pendingDeltasSumCreationsTransitionsAndDeletions() {
+        recorder.record(1L, null, OPENED);
+        recorder.record(1L, null, OPENED);
+        recorder.record(1L, OPENED, CLOSED_AFTER_AN_HOUR);
+        recorder.record(1L, STARTED, null);
+
+        // open: volta a zero (duas abertas, uma fechada e uma excluída) e não aparece
+        assertEquals(Map.of(
+                "status:OPEN", 1L,
+                "status:IN_PROGRESS", -1L,
+                "status:CLOSED", 1L,
+                "closed:count", 1L,
+                "closed:seconds", 3_600L
+        ), recorder.pendingDeltas(1L));
+    }
+
+    @Test
+    void markCheckpointedLeavesOnlyWhatWasRecordedAfterwards() {
+        recorder.record(1L, null, OPENED);
+        recorder.record(1L, null, OPENED);
+        final var first = recorder.pendingDeltas(1L);
+        assertEquals(Map.of("status:OPEN", 2L, "open:" + REQUESTER_ID, 2L), first);
+
+        // Gravada enquanto o checkpoint estava em andamento: fica para o próximo
+        recorder.record(1L, OPENED, STARTED);
+        recorder.markCheckpointed(1L, first);
+
+        assertEquals(Map.of("status:OPEN", -1L, "status:IN_PROGRESS", 1L), recorder.pendingDeltas(1L));
+
+        recorder.markCheckpointed(1L, recorder.pendingDeltas(1L));
+        assertTrue(recorder.pendingDeltas(1L).isEmpty());
+    }
+
+    @Test
+    void checkpointThatFailedKeepsTheDeltasPending() {
+        recorder.record(1L, null, OPENED);
+        recorder.pendingDeltas(1L);
+
+        // Sem markCheckpointed (a transação do checkpoint falhou) a mesma variação volta no próximo
+        assertEquals(Map.of("status:OPEN", 1L, "open:" + REQUESTER_ID, 1L), recorder.pendingDeltas(1L));
+    }
+
+    @Test
+    void discardBeforeDropsOnlyEarlierEpochs() {
+        recorder.record(1L, null, OPENED);
+        recorder.markCheckpointed(1L, Map.of("status:OPEN", 1L));
+        recorder.record(2L, null, STARTED);
+
+        recorder.discardBefore(2L);
+
+        assertTrue(recorder.pendingDeltas(1L).isEmpty());
+        assertEquals(Map.of("status:IN_PROGRESS", 1L, "open:" + REQUESTER_ID, 1L), recorder.pendingDeltas(2L));
+
+        // Uma escrita da época anterior registrada depois do descarte recria a época, e o próximo descarte a remove
+        recorder.record(1L, null, OPENED);
+        recorder.discardBefore(2L);
+        assertTrue(recorder.pendingDeltas(1L).isEmpty());
+    }
+
+}
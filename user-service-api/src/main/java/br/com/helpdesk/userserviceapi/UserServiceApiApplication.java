@@ -1,8 +1,12 @@
 package br.com.helpdesk.userserviceapi;
 
+import models.threads.VirtualThreadConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
+// Virtual threads opcionais: as requisições esperam o MongoDB e o RabbitMQ
+@Import(VirtualThreadConfig.class)
 @SpringBootApplication
 public class UserServiceApiApplication {
 
@@ -1,16 +1,22 @@
 package br.com.helpdesk.userserviceapi.controller.impl;
 
 import br.com.helpdesk.userserviceapi.controller.UserController;
+import br.com.helpdesk.userserviceapi.service.ChangeVersionService;
 import br.com.helpdesk.userserviceapi.service.UserService;
 import lombok.RequiredArgsConstructor;
 import models.requests.CreateUserRequest;
+import models.requests.FindUsersByIdsRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
+import static br.com.helpdesk.userserviceapi.service.ChangeVersionService.USERS;
 import static org.springframework.http.HttpStatus.CREATED;
 
 @RestController
@@ -18,12 +24,18 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class UserControllerImpl implements UserController {
 
     private final UserService service;
+    private final ChangeVersionService changeVersionService;
 
     @Override
     public ResponseEntity<UserResponse> findById(final String id) {
         return ResponseEntity.ok().body(service.findById(id));
     }
 
+    @Override
+    public ResponseEntity<Map<String, UserResponse>> findAllById(final FindUsersByIdsRequest request) {
+        return ResponseEntity.ok().body(service.findAllById(request.ids()));
+    }
+
     @Override
     public ResponseEntity<Void> save(final CreateUserRequest request) {
         service.save(request);
@@ -31,8 +43,22 @@ public class UserControllerImpl implements UserController {
     }
 
     @Override
-    public ResponseEntity<List<UserResponse>> findAll() {
-        return ResponseEntity.ok().body(service.findAll());
+    public ResponseEntity<List<UserResponse>> findAll(final WebRequest webRequest) {
+        // A versão é lida antes da consulta: uma ETag mais antiga que o corpo só custa uma resposta completa a mais
+        final var eTag = changeVersionService.eTag(USERS);
+        if (webRequest.checkNotModified(eTag)) return null;
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(service.findAll());
+    }
+
+    @Override
+    public ResponseEntity<Long> version() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(changeVersionService.current(USERS));
     }
 
     @Override
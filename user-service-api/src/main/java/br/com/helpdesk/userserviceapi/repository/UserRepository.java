@@ -2,12 +2,18 @@ package br.com.helpdesk.userserviceapi.repository;
 
 import br.com.helpdesk.userserviceapi.entity.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
     void deleteByEmail(String validEmail);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'name': 1, 'email': 1, 'profiles': 1 }")
+    List<User> findAllByIdIn(Collection<String> ids);
 }
@@ -0,0 +1,39 @@
+package br.com.helpdesk.userserviceapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import static java.util.Objects.isNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+// Contador de alterações por recurso, usado como ETag das listagens sem precisar serializar ou hashear o corpo
+@Service
+@RequiredArgsConstructor
+public class ChangeVersionService {
+
+    public static final String USERS = "users";
+    private static final String COLLECTION = "change_versions";
+    private static final String VERSION = "version";
+
+    private final MongoTemplate mongoTemplate;
+
+    // ETag fraca: a mesma versão pode gerar bytes diferentes (compressão), mas o conteúdo é equivalente
+    public String eTag(final String name) {
+        return "W/\"" + name + "-" + current(name) + "\"";
+    }
+
+    public Long current(final String name) {
+        final var document = mongoTemplate.findById(name, Document.class, COLLECTION);
+        return isNull(document) ? 0L : ((Number) document.get(VERSION)).longValue();
+    }
+
+    // Chamado depois da escrita: quem ler a versão nova já encontra os dados novos
+    public void increment(final String name) {
+        mongoTemplate.upsert(query(where("_id").is(name)), new Update().inc(VERSION, 1L), COLLECTION);
+    }
+
+}
@@ -8,13 +8,18 @@ import models.exceptions.ResourceNotFoundException;
 import models.requests.CreateUserRequest;
 import models.requests.UpdateUserRequest;
 import models.responses.UserResponse;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static br.com.helpdesk.userserviceapi.service.ChangeVersionService.USERS;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toMap;
 
 @Service
 @RequiredArgsConstructor
@@ -23,17 +28,26 @@ public class UserService {
     private final UserRepository repository;
     private final UserMapper mapper;
     private final BCryptPasswordEncoder encoder;
+    private final RabbitTemplate rabbit;
+    private final ChangeVersionService changeVersionService;
 
     public UserResponse findById(final String id) {
         return mapper.fromEntity(find(id));
     }
 
+    public Map<String, UserResponse> findAllById(final Set<String> ids) {
+        return repository.findAllByIdIn(ids)
+                .stream()
+                .collect(toMap(User::getId, mapper::fromEntity));
+    }
+
     public void save(CreateUserRequest request) {
         verifyIfEmailAlreadyExists(request.email(), null);
         repository.save(
                 mapper.fromRequest(request)
                         .withPassword(encoder.encode(request.password()))
         );
+        changeVersionService.increment(USERS);
     }
 
     public void verifyIfEmailAlreadyExists(final String email, final String id) {
@@ -54,11 +68,15 @@ public class UserService {
     public UserResponse update(final String id, final UpdateUserRequest request) {
         var entity = find(id);
         verifyIfEmailAlreadyExists(request.email(), id);
-        return mapper.fromEntity(
+        final var response = mapper.fromEntity(
                 repository.save(
                         mapper.update(request, entity)
                                 .withPassword(nonNull(request.password()) ? encoder.encode(request.password()) : entity.getPassword())
                 ));
+        changeVersionService.increment(USERS);
+
+        rabbit.convertAndSend("helpdesk", "rk.users.update", id);
+        return response;
     }
 
     private User find(final String id) {